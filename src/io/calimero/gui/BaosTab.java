@@ -44,6 +44,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
@@ -51,8 +54,12 @@ import java.util.Optional;
 import java.util.TreeMap;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.CTabFolder;
@@ -114,23 +121,24 @@ class BaosTab extends BaseTabLayout {
 		protected void onBaosEvent(final BaosService svc) {
 			super.onBaosEvent(svc);
 			addBaosEvent(svc);
+			if (svc.subService() == BaosService.GetServerItem || svc.subService() == BaosService.GetDatapointValue)
+				for (final var item : svc.items())
+					lastReceivedItem.accumulateAndGet(item.id(), Math::max);
 			if (svc.error() != ErrorCode.NoError) {
 				asyncAddLog(svc.toString());
 				return;
 			}
 
-			Main.asyncExec(() -> {
-				if (editArea.isDisposed())
-					return;
-				if (svc.subService() == BaosService.GetServerItem) {
+			if (svc.subService() == BaosService.GetServerItem) {
+				synchronized (changedProperties) {
 					for (final var item : svc.items()) {
 						@SuppressWarnings("unchecked")
 						final var propertyItem = (Item<Property>) item;
-						if (!updatePropertyValue(propertyItem))
-							addProperty(propertyItem);
+						changedProperties.put(propertyItem.info(), propertyItem.data());
 					}
 				}
-			});
+				scheduleRefresh();
+			}
 		}
 
 		@Override
@@ -159,8 +167,18 @@ class BaosTab extends BaseTabLayout {
 
 	private Thread toolThread;
 	private final BlockingQueue<String> commands = new LinkedBlockingDeque<>();
+	// get commands of queued property and datapoint reads, which are merged into range requests
+	private static final Pattern getCommand = Pattern.compile("get (property|value) (\\d+)(?: (\\d+))?");
+	// highest item id received in a response to the current get command
+	private final AtomicInteger lastReceivedItem = new AtomicInteger();
 	private int eventCount;
 
+	// property rows of the properties table, only accessed by the GUI thread
+	private final Map<Property, TableItem> propertyRows = new EnumMap<>(Property.class);
+	// latest values of properties not shown yet, the GUI thread takes them in batches
+	private final EnumMap<Property, byte[]> changedProperties = new EnumMap<>(Property.class);
+	private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
 
 	BaosTab(final CTabFolder tf, final ConnectArguments args) {
 		super(tf, "BAOS view for " + args.friendlyName(), "Connecting to", false, args);
@@ -436,25 +454,48 @@ class BaosTab extends BaseTabLayout {
 		field.setLayoutData(new RowData(field.computeSize(width, 0).x, SWT.DEFAULT));
 	}
 
-	private void addProperty(final Item<Property> item) {
+	private void addProperty(final Property property, final byte[] data) {
 		final var tableItem = new TableItem(properties, SWT.NONE);
-		final var property = item.info();
 		final String readOnly = property.readOnly() ? "R" : "R/W";
-		tableItem.setText(new String[] { "" + property.id(), property.friendlyName(), formatted(property, item.data()),
+		tableItem.setText(new String[] { "" + property.id(), property.friendlyName(), formatted(property, data),
 			readOnly });
 		tableItem.setData("property", property);
-	}
-
-	private boolean updatePropertyValue(final Item<Property> update) {
-		for (int i = 0; i < properties.getItemCount(); i++) {
-			final TableItem item = properties.getItem(i);
-			final var property = (Property) item.getData("property");
-			if (property == update.info()) {
-				item.setText(2, formatted(property, update.data()));
-				return true;
-			}
+		propertyRows.put(property, tableItem);
+	}
+
+	// property changes are shown at most every baos.refreshInterval ms, so a busy BAOS device does not flood the
+	// GUI thread with updates
+	private void scheduleRefresh() {
+		if (refreshScheduled.compareAndSet(false, true))
+			Main.asyncExec(() -> Main.display.timerExec(Config.get("baos.refreshInterval", 100),
+					this::showChangedProperties));
+	}
+
+	private void showChangedProperties() {
+		// reset first, changes arriving while we update the table schedule another refresh
+		refreshScheduled.set(false);
+		if (properties.isDisposed())
+			return;
+		final EnumMap<Property, byte[]> changes;
+		synchronized (changedProperties) {
+			changes = new EnumMap<>(changedProperties);
+			changedProperties.clear();
 		}
-		return false;
+		if (changes.isEmpty())
+			return;
+
+		properties.setRedraw(false);
+		changes.forEach((property, data) -> {
+			final TableItem row = propertyRows.get(property);
+			if (row == null)
+				addProperty(property, data);
+			else {
+				final String value = formatted(property, data);
+				if (!value.equals(row.getText(2)))
+					row.setText(2, value);
+			}
+		});
+		properties.setRedraw(true);
 	}
 
 	private Optional<DPT> selectedDpt() {
@@ -696,14 +737,11 @@ class BaosTab extends BaseTabLayout {
 				});
 
 				while (true) {
-					final String command = commands.take();
-					asyncAddLog(command);
-					try {
-						tool.executeBaosCommand(command);
-					}
-					catch (KNXException | RuntimeException e) {
-						asyncAddLog(e.toString());
-					}
+					final List<String> batch = new ArrayList<>();
+					batch.add(commands.take());
+					commands.drainTo(batch);
+					for (final var request : coalesce(batch))
+						execute(request.command(), request.merged());
 				}
 			}
 			catch (final Exception e) {
@@ -720,6 +758,82 @@ class BaosTab extends BaseTabLayout {
 		toolThread = Executor.execute(looper, "Calimero BAOS tool");
 	}
 
+	// merged is set if the request combines the items of more than one submitted command
+	private record Request(String command, boolean merged) {}
+
+	// merges consecutive get commands for adjacent or overlapping item ids into range requests of at most
+	// baos.itemsPerRequest items, all other commands keep their order
+	private static List<Request> coalesce(final List<String> batch) {
+		final int maxItems = Math.max(1, Config.get("baos.itemsPerRequest", 32));
+		final List<Request> requests = new ArrayList<>();
+		final BitSet ids = new BitSet();
+		// item ranges [start, end) of the submitted get commands
+		final List<int[]> submitted = new ArrayList<>();
+		String kind = "";
+		for (final String command : batch) {
+			final Matcher m = getCommand.matcher(command.strip());
+			final String type = m.matches() ? m.group(1) : "";
+			if (type.isEmpty() || !type.equals(kind)) {
+				addRangeRequests(kind, ids, submitted, maxItems, requests);
+				kind = type;
+			}
+			if (type.isEmpty()) {
+				requests.add(new Request(command, false));
+				continue;
+			}
+			final int id = Integer.parseInt(m.group(2));
+			final int items = m.group(3) != null ? Math.max(1, Integer.parseInt(m.group(3))) : 1;
+			ids.set(id, id + items);
+			submitted.add(new int[] { id, id + items });
+		}
+		addRangeRequests(kind, ids, submitted, maxItems, requests);
+		return requests;
+	}
+
+	private static void addRangeRequests(final String kind, final BitSet ids, final List<int[]> submitted,
+			final int maxItems, final List<Request> requests) {
+		int start = ids.nextSetBit(0);
+		while (start >= 0) {
+			final int end = Math.min(ids.nextClearBit(start), start + maxItems);
+			final int from = start;
+			final long sources = submitted.stream().filter(r -> r[0] < end && r[1] > from).count();
+			requests.add(new Request("get " + kind + " " + start + " " + (end - start), sources > 1));
+			start = ids.nextSetBit(end);
+		}
+		ids.clear();
+		submitted.clear();
+	}
+
+	private void execute(final String command, final boolean merged) throws InterruptedException {
+		asyncAddLog(command);
+		final Matcher m = getCommand.matcher(command);
+		final int items = m.matches() && m.group(3) != null ? Integer.parseInt(m.group(3)) : 1;
+		final int start = items > 1 ? Integer.parseInt(m.group(2)) : 0;
+		lastReceivedItem.set(-1);
+		try {
+			tool.executeBaosCommand(command);
+		}
+		catch (KNXException | RuntimeException e) {
+			asyncAddLog(e.toString());
+		}
+		if (items <= 1)
+			return;
+
+		final int end = start + items;
+		final int last = lastReceivedItem.get();
+		if (last < start) {
+			// a merged request failed as a whole, e.g., because of an unsupported item, read items one by one;
+			// for a range requested by the user, the error logged above is the answer
+			if (merged)
+				for (int id = start; id < end; id++)
+					execute("get " + m.group(1) + " " + id, false);
+		}
+		else if (last < end - 1) {
+			// the response was limited by the BAOS buffer size, continue after the last item received
+			execute("get " + m.group(1) + " " + (last + 1) + " " + (end - last - 1), merged);
+		}
+	}
+
 	// phase: 0=connecting, 1=reading, 2=completed, x=unknown
 	private static String statusInfo(final int phase) {
 		return switch (phase) {
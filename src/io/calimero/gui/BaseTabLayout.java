@@ -43,7 +43,6 @@ import java.io.Writer;
 import java.lang.System.Logger.Level;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.time.ZoneId;
@@ -54,11 +53,9 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.WeakHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.CTabFolder;
@@ -190,7 +187,7 @@ class BaseTabLayout implements LogNotifier
 			splitted.layout();
 		});
 
-		list = newTable(splitted, SWT.BORDER | SWT.FULL_SELECTION | SWT.V_SCROLL, sash);
+		list = newTable(splitted, SWT.BORDER | SWT.FULL_SELECTION | SWT.V_SCROLL | listStyle(), sash);
 		list.addSelectionListener(defaultSelected(e -> {
 			if (e.item.getData("internal") == null)
 				onListItemSelected(e);
@@ -201,21 +198,12 @@ class BaseTabLayout implements LogNotifier
 
 		DateTimeFormatter dfmt = DateTimeFormatter.ISO_LOCAL_DATE;
 		DateTimeFormatter tfmt = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
-		// check optional config file for user-specific date/time formats
+		// check optional config for user-specific date/time formats
 		try {
-			final Path config = Paths.get(".calimero-gui.config");
-			if (Files.exists(config)) {
-				try (var lines = Files.lines(config)) {
-					final Map<String, String> formats = lines.filter(s -> s.startsWith("monitor"))
-							.collect(Collectors.toMap(
-									s -> s.substring(0, s.indexOf("=")),
-									s -> s.substring(s.indexOf("=") + 1)));
-					dfmt = Optional.ofNullable(formats.get("monitor.dateFormat")).map(DateTimeFormatter::ofPattern).orElse(dfmt);
-					tfmt = Optional.ofNullable(formats.get("monitor.timeFormat")).map(DateTimeFormatter::ofPattern).orElse(tfmt);
-				}
-			}
+			dfmt = Config.get("monitor.dateFormat").map(DateTimeFormatter::ofPattern).orElse(dfmt);
+			tfmt = Config.get("monitor.timeFormat").map(DateTimeFormatter::ofPattern).orElse(tfmt);
 		}
-		catch (IOException | RuntimeException e) {
+		catch (final RuntimeException e) {
 			asyncAddLog(e);
 		}
 		dateFormatter = dfmt.withZone(ZoneId.systemDefault());
@@ -252,6 +240,16 @@ class BaseTabLayout implements LogNotifier
 		top.setLayout(layout);
 	}
 
+	/**
+	 * Override in subtypes to add style bits to the main list, e.g., {@link SWT#VIRTUAL}.
+	 *
+	 * @return additional list style bits
+	 */
+	protected int listStyle()
+	{
+		return SWT.NONE;
+	}
+
 	/**
 	 * Override in subtypes.
 	 *
@@ -384,6 +382,14 @@ class BaseTabLayout implements LogNotifier
 		return status + " " + args.friendlyName();
 	}
 
+	/**
+	 * Override in subtypes, invoked on the GUI thread for each list item added by
+	 * {@link #asyncAddListItem(String[], String[], String[])}.
+	 *
+	 * @param item the new list item
+	 */
+	protected void onListItemAdded(final TableItem item) {}
+
 	/**
 	 * Override in subtypes.
 	 *
@@ -542,8 +548,9 @@ class BaseTabLayout implements LogNotifier
 		final boolean atEnd = last >= total;
 
 		list.setRedraw(false);
+		final int maxItems = Math.max(1, Config.get("monitor.itemsPerUpdate", 500));
 		int added = 0;
-		while (itemBuffer.size() > 0 && added < 500) {
+		while (itemBuffer.size() > 0 && added < maxItems) {
 			final Object[][] e = itemBuffer.removeFirst();
 			final String[] itemText = (String[]) e[0];
 			final String[] keys = (String[]) e[1];
@@ -554,6 +561,7 @@ class BaseTabLayout implements LogNotifier
 			if (keys != null)
 				for (int i = 0; i < keys.length; i++)
 					item.setData(keys[i], data[i]);
+			onListItemAdded(item);
 			added++;
 		}
 
@@ -0,0 +1,342 @@
+/*
+    Calimero GUI - A graphical user interface for the Calimero 3 tools
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.gui;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.CTabFolder;
+import org.eclipse.swt.events.DisposeEvent;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
+
+import io.calimero.IndividualAddress;
+import io.calimero.KNXFormatException;
+import io.calimero.KNXIllegalArgumentException;
+import io.calimero.internal.Executor;
+import io.calimero.secure.Keyring;
+import io.calimero.tools.DeviceInfo;
+
+/**
+ * Reads the device information of a set of KNX devices, using a bounded number of concurrent connections. Results of
+ * all devices are shown in one table, and can be exported incrementally while reading.
+ */
+class BatchDeviceInfoTab extends BaseTabLayout
+{
+	private final List<Thread> workers = new CopyOnWriteArrayList<>();
+	private final AtomicInteger remaining;
+	private Button cancel;
+	private volatile boolean canceled;
+
+	// accessed on UI thread only
+	private Writer export;
+	private int sortColumn = -1;
+	private boolean sortAscending;
+
+	BatchDeviceInfoTab(final CTabFolder tf, final ConnectArguments args, final List<IndividualAddress> devices)
+	{
+		super(tf, "Device info of " + devices.size() + " devices", "Read device info via", false, args);
+		setExportName("deviceinfo_", ".csv");
+
+		for (final String name : new String[] { "Device", "Category", "Setting", "Value", "Unformatted" }) {
+			final TableColumn c = new TableColumn(list, SWT.LEFT);
+			c.setText(name);
+			c.setWidth(name.equals("Value") ? 200 : 100);
+			final int index = list.getColumnCount() - 1;
+			c.addListener(SWT.Selection, e -> sortBy(index));
+		}
+		enableColumnAdjusting();
+
+		remaining = new AtomicInteger(devices.size());
+		readDeviceInfo(devices);
+	}
+
+	@Override
+	protected void initWorkAreaTop()
+	{
+		super.initWorkAreaTop();
+		addResetAndExport(false, ".csv");
+		((GridLayout) top.getLayout()).numColumns = 5;
+
+		final Button exportContinuously = new Button(top, SWT.NONE);
+		exportContinuously.setFont(Main.font);
+		exportContinuously.setText("Export while reading...");
+		exportContinuously.setToolTipText("Export current results and append the results of each device as it completes");
+		exportContinuously.addSelectionListener(selected(e -> {
+			final FileDialog dlg = new FileDialog(Main.shell, SWT.SAVE);
+			dlg.setText("Export data as CSV");
+			dlg.setOverwrite(true);
+			final String resource = dlg.open();
+			if (resource != null)
+				startExport(resource);
+		}));
+
+		cancel = new Button(top, SWT.NONE);
+		cancel.setFont(Main.font);
+		cancel.setText("Cancel");
+		cancel.addSelectionListener(selected(e -> {
+			canceled = true;
+			workers.forEach(Thread::interrupt);
+			asyncAddLog("Canceled reading device information");
+		}));
+	}
+
+	@Override
+	protected void onDispose(final DisposeEvent e)
+	{
+		canceled = true;
+		workers.forEach(Thread::interrupt);
+		closeExport();
+		super.onDispose(e);
+	}
+
+	private void readDeviceInfo(final List<IndividualAddress> devices)
+	{
+		// make sure keyring is decrypted in case any device requires data secure
+		KeyringTab.keyring().map(Keyring::devices).filter(secure -> devices.stream().anyMatch(secure::containsKey))
+				.ifPresent(__ -> KeyringTab.keyringPassword());
+		final List<String> args = new ArrayList<>(connect.getArgs(false));
+		if (!connect.remoteKnxAddress.isEmpty())
+			args.remove(args.size() - 1);
+		asyncAddLog("Using command line: " + String.join(" ", args) + " <device>");
+
+		final int connections = Math.min(devices.size(), connect.maxConcurrentConnections("deviceInfo.maxConnections"));
+		asyncAddLog("Read " + devices.size() + " devices using up to " + connections + " connections");
+		final Queue<IndividualAddress> pending = new ConcurrentLinkedQueue<>(devices);
+		for (int i = 0; i < connections; i++) {
+			workers.add(Executor.execute(() -> {
+				for (IndividualAddress device; !canceled && (device = pending.poll()) != null;)
+					readDeviceInfo(args, device);
+				// after cancel, count down the devices not read, the last one completes the batch
+				for (IndividualAddress device; (device = pending.poll()) != null;)
+					addResults(List.<String[]>of(new String[] { device.toString(), "Canceled", "", "", "" }));
+			}, "Batch info reader " + connect.friendlyName()));
+		}
+		if (devices.isEmpty())
+			onCompletion();
+	}
+
+	private void readDeviceInfo(final List<String> args, final IndividualAddress device)
+	{
+		final List<String> deviceArgs = new ArrayList<>(args);
+		deviceArgs.add(device.toString());
+		final int attempts = 1 + Math.max(0, Config.get("deviceInfo.retries", 2));
+		final int timeout = Config.get("deviceInfo.timeout", 60);
+
+		final List<String[]> rows = new ArrayList<>();
+		Exception error = null;
+		for (int attempt = 1; attempt <= attempts && !canceled; attempt++) {
+			rows.clear();
+			final Exception[] thrown = new Exception[1];
+			try {
+				final DeviceInfo tool = new DeviceInfo(deviceArgs.toArray(new String[0])) {
+					@Override
+					protected void onDeviceInformation(final Item item) {
+						rows.add(new String[] { device.toString(), item.category(), item.parameter().friendlyName(),
+							item.value(), HexFormat.of().formatHex(item.raw()) });
+					}
+
+					@Override
+					protected void onCompletion(final Exception e, final boolean canceled) {
+						thrown[0] = e;
+					}
+				};
+				// interrupt the worker if the device does not complete in time, but only while this attempt runs
+				final Thread worker = Thread.currentThread();
+				final boolean[] running = { true };
+				final boolean[] timedOut = { false };
+				final var watchdog = Executor.scheduledExecutor().schedule(() -> {
+					synchronized (running) {
+						if (running[0]) {
+							timedOut[0] = true;
+							worker.interrupt();
+						}
+					}
+				}, timeout, TimeUnit.SECONDS);
+				try {
+					tool.run();
+				}
+				finally {
+					watchdog.cancel(false);
+					synchronized (running) {
+						running[0] = false;
+						// clear the interrupt caused by the timeout, so it does not abort the next attempt
+						if (timedOut[0])
+							Thread.interrupted();
+					}
+				}
+				if (timedOut[0])
+					thrown[0] = new IOException("no response within " + timeout + " seconds");
+			}
+			catch (final KNXIllegalArgumentException e) {
+				thrown[0] = e;
+				attempt = attempts;
+			}
+			error = thrown[0];
+			if (error == null)
+				break;
+			if (attempt < attempts && !canceled)
+				asyncAddLog("Reading " + device + " failed (" + error.getMessage() + "), retry");
+		}
+		if (canceled)
+			rows.add(new String[] { device.toString(), "Canceled", "", "", "" });
+		else if (error != null) {
+			asyncAddLog("Reading " + device + " failed: " + error.getMessage());
+			rows.add(new String[] { device.toString(), "Error", "", error.getMessage(), "" });
+		}
+		addResults(rows);
+	}
+
+	// adds the results of a device, and completes the batch after the last device
+	private void addResults(final List<String[]> rows)
+	{
+		final boolean last = remaining.decrementAndGet() == 0;
+		Main.asyncExec(() -> {
+			if (list.isDisposed())
+				return;
+			for (final String[] row : rows)
+				new TableItem(list, SWT.NONE).setText(row);
+			append(rows);
+			if (last)
+				onCompletion();
+		});
+	}
+
+	private void onCompletion()
+	{
+		Main.asyncExec(() -> {
+			if (list.isDisposed())
+				return;
+			setHeaderInfoPhase("Device info completed via");
+			cancel.setEnabled(false);
+			closeExport();
+		});
+	}
+
+	private void sortBy(final int column)
+	{
+		sortAscending = column != sortColumn || !sortAscending;
+		sortColumn = column;
+		final String[][] rows = new String[list.getItemCount()][];
+		for (int i = 0; i < rows.length; i++) {
+			final TableItem item = list.getItem(i);
+			rows[i] = new String[list.getColumnCount()];
+			for (int k = 0; k < rows[i].length; k++)
+				rows[i][k] = item.getText(k);
+		}
+		// compare devices by address, a string comparison would sort 1.1.10 before 1.1.2
+		final Comparator<String[]> byColumn = column == 0 ? Comparator.comparingInt(row -> rawAddress(row[0]))
+				: Comparator.comparing(row -> row[column]);
+		// sort is stable, i.e., sorting by device keeps the order of the items of a device
+		Arrays.sort(rows, sortAscending ? byColumn : byColumn.reversed());
+		for (int i = 0; i < rows.length; i++)
+			list.getItem(i).setText(rows[i]);
+		list.setSortColumn(list.getColumn(column));
+		list.setSortDirection(sortAscending ? SWT.UP : SWT.DOWN);
+	}
+
+	private static int rawAddress(final String device)
+	{
+		try {
+			return new IndividualAddress(device).getRawAddress();
+		}
+		catch (final KNXFormatException e) {
+			return -1;
+		}
+	}
+
+	private void startExport(final String resource)
+	{
+		closeExport();
+		saveAs(resource);
+		try {
+			export = Files.newBufferedWriter(Path.of(resource), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+			asyncAddLog("Append results of each device to " + resource);
+		}
+		catch (final IOException e) {
+			asyncAddLog("Export aborted with error: " + e.getMessage());
+		}
+	}
+
+	private void append(final List<String[]> rows)
+	{
+		if (export == null)
+			return;
+		try {
+			for (final String[] row : rows) {
+				final var joiner = new StringBuilder();
+				for (final String s : row)
+					joiner.append(joiner.isEmpty() ? "" : ",").append('"').append(s).append('"');
+				export.append(joiner).append('\n');
+			}
+			export.flush();
+		}
+		catch (final IOException e) {
+			asyncAddLog("Export aborted with error: " + e.getMessage());
+			closeExport();
+		}
+	}
+
+	private void closeExport()
+	{
+		if (export == null)
+			return;
+		try {
+			export.close();
+		}
+		catch (final IOException ignore) {}
+		export = null;
+	}
+}
@@ -0,0 +1,145 @@
+/*
+    Calimero GUI - A graphical user interface for the Calimero 3 tools
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.gui;
+
+import static java.util.stream.Collectors.joining;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * File storage shared by the persisted caches of the GUI. A cache file contains one entry per line, consisting of
+ * tab-separated fields; tabs, line breaks, and backslashes in fields are escaped.
+ */
+final class CacheFile {
+	// format used to show when cached data was last seen or read
+	static final DateTimeFormatter timestampFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
+			.withZone(ZoneId.systemDefault());
+
+	interface EntryParser {
+		void parse(String[] fields) throws Exception;
+	}
+
+	private final Path file;
+	private final String contents;
+
+	/**
+	 * @param name file name, stored in the working directory
+	 * @param contents description of the cached data, used in messages
+	 */
+	CacheFile(final String name, final String contents) {
+		file = Path.of(name);
+		this.contents = contents;
+	}
+
+	// entries last updated before the returned time are not kept, using the configured retention days (default 90)
+	static Instant expiry(final String retentionDaysKey) {
+		return Instant.now().minus(Duration.ofDays(Config.get(retentionDaysKey, 90)));
+	}
+
+	// invalid entries are skipped
+	void load(final EntryParser parser) {
+		if (!Files.exists(file))
+			return;
+		try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+			lines.filter(s -> !s.isBlank()).forEach(line -> {
+				final String[] fields = fields(line);
+				try {
+					parser.parse(fields);
+				}
+				catch (final Exception e) {
+					System.out.println("Skip invalid entry in '" + file + "': " + e.getMessage());
+				}
+			});
+		}
+		catch (IOException | UncheckedIOException e) {
+			System.out.println("Failed to load " + contents + " from '" + file + "': " + e.getMessage());
+		}
+	}
+
+	void save(final List<String[]> entries) {
+		try (var w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			for (final String[] fields : entries) {
+				w.write(line(fields));
+				w.newLine();
+			}
+		}
+		catch (final IOException e) {
+			System.out.println("Failed to save " + contents + " to '" + file + "': " + e.getMessage());
+		}
+	}
+
+	// returns the escaped, tab-separated line of fields
+	static String line(final String[] fields) {
+		return Stream.of(fields).map(CacheFile::escape).collect(joining("\t"));
+	}
+
+	// returns the unescaped fields of a line
+	static String[] fields(final String line) {
+		final String[] fields = line.split("\t", -1);
+		for (int i = 0; i < fields.length; i++)
+			fields[i] = unescape(fields[i]);
+		return fields;
+	}
+
+	private static String escape(final String s) {
+		return s.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+	}
+
+	private static String unescape(final String s) {
+		final StringBuilder sb = new StringBuilder(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			if (c == '\\' && i + 1 < s.length()) {
+				final char next = s.charAt(++i);
+				sb.append(next == 't' ? '\t' : next == 'n' ? '\n' : next);
+			}
+			else
+				sb.append(c);
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,96 @@
+/*
+    Calimero GUI - A graphical user interface for the Calimero 3 tools
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.gui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * User configuration read from the optional {@code .calimero-gui.config} file in the working directory. The file
+ * is parsed once and reloaded in the background whenever it changes; every accessor works on an immutable snapshot
+ * of the configuration entries.
+ */
+final class Config {
+	private static final Path file = Path.of(".calimero-gui.config");
+
+	private static volatile Map<String, String> entries = load();
+
+	static {
+		FileWatcher.watch(file, Config::reload);
+	}
+
+	private Config() {}
+
+	static Optional<String> get(final String key) {
+		return Optional.ofNullable(entries.get(key));
+	}
+
+	static int get(final String key, final int defaultValue) {
+		final String value = entries.get(key);
+		if (value == null)
+			return defaultValue;
+		try {
+			return Integer.decode(value.trim());
+		}
+		catch (final NumberFormatException e) {
+			System.out.println(file + ": invalid number for '" + key + "': " + value);
+			return defaultValue;
+		}
+	}
+
+	private static void reload() {
+		entries = load();
+	}
+
+	private static Map<String, String> load() {
+		final Map<String, String> map = new HashMap<>();
+		try (var lines = Files.lines(file)) {
+			lines.filter(s -> !s.startsWith("#") && s.indexOf('=') > 0)
+					.forEach(s -> map.put(s.substring(0, s.indexOf('=')), s.substring(s.indexOf('=') + 1)));
+		}
+		catch (final NoSuchFileException ok) {}
+		catch (IOException | RuntimeException e) {
+			System.out.println("Failed to read configuration from '" + file + "': " + e.getMessage());
+		}
+		return Map.copyOf(map);
+	}
+}
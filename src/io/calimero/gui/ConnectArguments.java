@@ -224,6 +224,13 @@ final class ConnectArguments {
 		return args;
 	}
 
+	// only KNXnet/IP tunneling allows several concurrent connections to the same interface
+	int maxConcurrentConnections(final String configKey) {
+		if (access.protocol() != Protocol.Tunneling)
+			return 1;
+		return Math.max(1, Config.get(configKey, 4));
+	}
+
 	boolean isSecure(final ConnectArguments.Protocol protocol) {
 		final IpAccess ipAccess = (IpAccess) access;
 		for (final var service : ipAccess.securedServices().keySet()) {
@@ -242,23 +249,26 @@ final class ConnectArguments {
 		if (result != null)
 			return result;
 
-		Path p = null;
+		final Path keyfile = Paths.get("keyfile");
 		try {
-			final Path keyfile = Paths.get("keyfile");
-			final Path config = Paths.get(".calimero-gui.config");
-			p = Files.exists(keyfile) ? keyfile : config;
-			try (var lines = Files.lines(p)) {
-				final Map<String, String> map = lines.filter(s -> s.startsWith(key))
-						.collect(Collectors.toMap(
-								s -> s.substring(0, s.indexOf("=")),
-								s -> s.substring(s.indexOf("=") + 1)));
-				return map.getOrDefault(key, "");
-			}
+			Secrets.watch(keyfile);
+			if (Files.exists(keyfile))
+				return Secrets.lookup("keyfile:" + key, () -> readConfig(keyfile, key));
 		}
-		catch (IOException | RuntimeException e) {
-			System.out.printf("Failed to get value for '%s' from file '%s' (error: %s)%n", key, p, e.getMessage());
+		catch (IOException | KNXFormatException | RuntimeException e) {
+			System.out.printf("Failed to get value for '%s' from file '%s' (error: %s)%n", key, keyfile, e.getMessage());
+		}
+		return Config.get(key).orElse("");
+	}
+
+	private static String readConfig(final Path file, final String key) throws IOException {
+		try (var lines = Files.lines(file)) {
+			final Map<String, String> map = lines.filter(s -> s.startsWith(key))
+					.collect(Collectors.toMap(
+							s -> s.substring(0, s.indexOf("=")),
+							s -> s.substring(s.indexOf("=") + 1)));
+			return map.getOrDefault(key, "");
 		}
-		return "";
 	}
 
 	private String lookupKeyring(final String key, final String value) {
@@ -278,13 +288,19 @@ final class ConnectArguments {
 		if (keyring == null || keyringPassword.length == 0)
 			return null;
 
+		final var hostIA = access instanceof final IpAccess ipAccess ? ipAccess.hostIA() : null;
+		return Secrets.lookup("keyring:" + key + ":" + value + ":" + hostIA,
+				() -> decryptSecret(keyring, keyringPassword, key, value, hostIA));
+	}
+
+	private static String decryptSecret(final Keyring keyring, final char[] keyringPassword, final String key,
+			final String value, final IndividualAddress hostIA) throws IOException, KNXFormatException {
 		if ("group.key".equals(key)) {
 			final InetAddress remote = InetAddress.getByName(value);
 			final var backbone = keyring.backbone().filter(bb -> bb.multicastGroup().equals(remote)).orElseThrow();
 			return HexFormat.of().formatHex(keyring.decryptKey(backbone.groupKey().orElseThrow(), keyringPassword));
 		}
 
-		final var hostIA = access instanceof final IpAccess ipAccess ? ipAccess.hostIA() : null;
 		if (key.startsWith("device")) {
 			final var pwd = Optional.ofNullable(keyring.devices().get(hostIA))
 					.flatMap(Keyring.Device::authentication)
@@ -0,0 +1,106 @@
+/*
+    Calimero GUI - A graphical user interface for the Calimero 3 tools
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.gui;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Persists the device information read by {@link DeviceInfoTab}, so that the last known information of a device is
+ * available immediately when reopening its device info. Entries are keyed by interface and device address; the KNX
+ * serial number of an entry identifies the physical device behind that address.
+ */
+final class DeviceInfoCache {
+	record Row(String category, String setting, String value, String raw) {}
+
+	record Entry(Instant read, String serialNumber, List<Row> rows) {}
+
+	private static final CacheFile file = new CacheFile(".calimero-gui.deviceinfo", "device information");
+
+	private static final DeviceInfoCache instance = new DeviceInfoCache();
+
+	private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+	static DeviceInfoCache instance() { return instance; }
+
+	private DeviceInfoCache() {
+		load();
+	}
+
+	static String serialNumber(final List<Row> rows) {
+		return rows.stream().filter(row -> row.setting().equalsIgnoreCase("Serial number")).map(Row::value)
+				.findFirst().orElse("");
+	}
+
+	synchronized Optional<Entry> get(final String key) {
+		return Optional.ofNullable(entries.get(key));
+	}
+
+	synchronized void put(final String key, final List<Row> rows) {
+		entries.remove(key);
+		entries.put(key, new Entry(Instant.now(), serialNumber(rows), List.copyOf(rows)));
+		save();
+	}
+
+	private void save() {
+		final Instant expired = CacheFile.expiry("deviceInfo.retentionDays");
+		entries.values().removeIf(e -> e.read().isBefore(expired));
+		final List<String[]> lines = new ArrayList<>();
+		for (final var entry : entries.entrySet()) {
+			final String read = Long.toString(entry.getValue().read().toEpochMilli());
+			for (final Row row : entry.getValue().rows())
+				lines.add(new String[] { entry.getKey(), read, row.category(), row.setting(), row.value(), row.raw() });
+		}
+		file.save(lines);
+	}
+
+	// tab-separated fields, one line per row: key, time read, category, setting, value, raw value
+	private synchronized void load() {
+		final Map<String, List<Row>> rows = new LinkedHashMap<>();
+		final Map<String, Instant> read = new LinkedHashMap<>();
+		file.load(fields -> {
+			read.put(fields[0], Instant.ofEpochMilli(Long.parseLong(fields[1])));
+			rows.computeIfAbsent(fields[0], __ -> new ArrayList<>())
+					.add(new Row(fields[2], fields[3], fields[4], fields[5]));
+		});
+		rows.forEach((key, list) -> entries.put(key, new Entry(read.get(key), serialNumber(list), List.copyOf(list))));
+	}
+}
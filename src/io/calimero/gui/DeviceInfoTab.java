@@ -37,8 +37,11 @@
 package io.calimero.gui;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.CTabFolder;
@@ -47,6 +50,7 @@ import org.eclipse.swt.widgets.TableColumn;
 import org.eclipse.swt.widgets.TableItem;
 
 import io.calimero.KNXIllegalArgumentException;
+import io.calimero.gui.DeviceInfoCache.Row;
 import io.calimero.internal.Executor;
 import io.calimero.tools.DeviceInfo;
 
@@ -57,6 +61,10 @@ class DeviceInfoTab extends BaseTabLayout
 {
 	private Thread worker;
 
+	// accessed on UI thread only
+	private String currentCategory = "";
+	private boolean showingCached;
+
 	DeviceInfoTab(final CTabFolder tf, final ConnectArguments args)
 	{
 		super(tf, "Device info of " + args.friendlyName(), "Read info of", true, args);
@@ -98,41 +106,78 @@ class DeviceInfoTab extends BaseTabLayout
 		}
 		asyncAddLog("Using command line: " + String.join(" ", args));
 
+		// show the last known device info until the current info is read
+		final String cacheKey = DiscoveryCache.key(connect.access())
+				+ (connect.remoteKnxAddress.isEmpty() ? "" : " " + connect.remoteKnxAddress);
+		final var cached = DeviceInfoCache.instance().get(cacheKey);
+		final Map<String, String> cachedValues = new HashMap<>();
+		cached.ifPresent(entry -> {
+			asyncAddLog("Showing device info read on " + CacheFile.timestampFormat.format(entry.read())
+					+ ", reading current info");
+			for (final Row row : entry.rows()) {
+				cachedValues.put(row.category() + "\t" + row.setting(), row.value());
+				addRow(row, false);
+			}
+			showingCached = true;
+		});
+
 		try {
+			final List<Row> rows = Collections.synchronizedList(new ArrayList<>());
 			final DeviceInfo config = new DeviceInfo(args.toArray(new String[0])) {
 				@Override
 				protected void onDeviceInformation(final Item item) {
+					final Row row = new Row(item.category(), item.parameter().friendlyName(), item.value(),
+							HexFormat.of().formatHex(item.raw()));
+					rows.add(row);
+					// the cache is keyed by address, check that the cached info belongs to the same device
+					final String cachedSerialNumber = cached.map(DeviceInfoCache.Entry::serialNumber).orElse("");
+					final boolean otherDevice = row.setting().equalsIgnoreCase("Serial number")
+							&& !cachedSerialNumber.isEmpty() && !cachedSerialNumber.equals(row.value());
+					if (otherDevice) {
+						cachedValues.clear();
+						asyncAddLog("Cached device info belongs to device with serial number " + cachedSerialNumber
+								+ ", not compared with current info");
+					}
+					final String previous = cachedValues.get(row.category() + "\t" + row.setting());
+					final boolean changed = !cachedValues.isEmpty() && !row.value().equals(previous);
 					Main.asyncExec(() -> {
-						if (!list.isDisposed())
-							addItem(item);
+						if (list.isDisposed())
+							return;
+						if (otherDevice)
+							for (final TableItem i : list.getItems())
+								i.setForeground(null);
+						if (showingCached) {
+							list.removeAll();
+							currentCategory = "";
+							showingCached = false;
+						}
+						addRow(row, changed);
 					});
 				}
 
 				@Override
 				protected void onCompletion(final Exception thrown, final boolean canceled) {
+					if (thrown == null && !canceled) {
+						final String serialNumber = DeviceInfoCache.serialNumber(rows);
+						cached.map(DeviceInfoCache.Entry::serialNumber)
+								.filter(sn -> !sn.isEmpty() && !serialNumber.isEmpty() && !sn.equals(serialNumber))
+								.ifPresent(sn -> asyncAddLog("Device changed since last read (serial number " + sn
+										+ " before, now " + serialNumber + ")"));
+						DeviceInfoCache.instance().put(cacheKey, rows);
+					}
 					Main.asyncExec(() -> {
 						if (list.isDisposed())
 							return;
 						final String status = canceled ? "canceled" : "completed";
-						setHeaderInfoPhase("Device info " + status + " for");
+						final String info = connectInfo("Device info " + status + " for", false);
+						setHeaderInfo(showingCached
+								? info + " (showing device info read on "
+										+ CacheFile.timestampFormat.format(cached.get().read()) + ")"
+								: info);
 					});
 					if (thrown != null)
 						asyncAddLog(thrown);
 				}
-
-				private String currentCategory = "";
-
-				private void addItem(final Item item) {
-					if (!currentCategory.equals(item.category())) {
-						currentCategory = item.category();
-						final TableItem i = new TableItem(list, SWT.NONE);
-						i.setText(new String[] { currentCategory, "", "" });
-					}
-					final String param = item.parameter().friendlyName();
-					final String rawString = HexFormat.of().formatHex(item.raw());
-					final TableItem i = new TableItem(list, SWT.NONE);
-					i.setText(new String[] { "\t" + param, item.value(), rawString });
-				}
 			};
 			worker = Executor.execute(config, "Info reader " + connect.friendlyName());
 		}
@@ -140,4 +185,17 @@ class DeviceInfoTab extends BaseTabLayout
 			asyncAddLog("error: " + e.getMessage());
 		}
 	}
+
+	// values which differ from the last read are highlighted
+	private void addRow(final Row row, final boolean changed) {
+		if (!currentCategory.equals(row.category())) {
+			currentCategory = row.category();
+			final TableItem i = new TableItem(list, SWT.NONE);
+			i.setText(new String[] { currentCategory, "", "" });
+		}
+		final TableItem i = new TableItem(list, SWT.NONE);
+		i.setText(new String[] { "\t" + row.setting(), row.value(), row.raw() });
+		if (changed)
+			i.setForeground(Main.display.getSystemColor(SWT.COLOR_DARK_RED));
+	}
 }
@@ -41,17 +41,25 @@ import static java.lang.System.Logger.Level.DEBUG;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.CTabFolder;
+import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.layout.FormData;
@@ -113,6 +121,10 @@ class DiscoverTab extends BaseTabLayout
 	Button preferRouting;
 	Button preferTcp;
 
+	private final DiscoveryCache cache = new DiscoveryCache();
+	// list items shown from cache, not yet confirmed by the current discovery; only accessed on the GUI thread
+	private final Map<String, TableItem> unconfirmed = new HashMap<>();
+
 	DiscoverTab(final CTabFolder tf)
 	{
 		super(tf, "Endpoint discovery && description", null, false, false, null);
@@ -158,17 +170,19 @@ class DiscoverTab extends BaseTabLayout
 
 	Optional<ConnectArguments> defaultInterface()
 	{
-		final TableItem[] items = list.getItems();
-		if (items.length == 0 || items[0].getData("internal") != null)
+		final TableItem[] all = list.getItems();
+		if (all.length == 0 || all[0].getData("internal") != null)
 			return Optional.empty();
-
-		final Optional<TableItem> item;
-		if (items.length == 1)
-			item = Optional.of(items[0]);
-		else {
-			item = Arrays.stream(items).filter(TableItem::getChecked).findFirst();
-			if (item.isEmpty())
+		// a checked interface is the default, cached or confirmed, unless it was not found by this session's
+		// discovery; without a checked interface, a single confirmed interface is the default
+		Optional<TableItem> item = Arrays.stream(all).filter(i -> i.getData("notFound") == null)
+				.filter(TableItem::getChecked).findFirst();
+		if (item.isEmpty()) {
+			final TableItem[] confirmed = Arrays.stream(all).filter(i -> i.getData("cached") == null)
+					.toArray(TableItem[]::new);
+			if (confirmed.length != 1)
 				return Optional.empty();
+			item = Optional.of(confirmed[0]);
 		}
 
 		final TableItem defaultInterface = item.get();
@@ -191,7 +205,7 @@ class DiscoverTab extends BaseTabLayout
 	protected void initWorkAreaTop()
 	{
 		super.initWorkAreaTop();
-		((GridLayout) top.getLayout()).numColumns = 4;
+		((GridLayout) top.getLayout()).numColumns = 5;
 		final Button start = new Button(top, SWT.PUSH);
 		start.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, false, false));
 		start.setText("Discover devices");
@@ -210,16 +224,33 @@ class DiscoverTab extends BaseTabLayout
 
 		preferTcp = new Button(top, SWT.CHECK);
 		preferTcp.setText("Prefer TCP");
-		preferTcp.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, true, false));
+		preferTcp.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, false, false));
 		preferTcp.setToolTipText("If UDP and TCP is supported, choose TCP");
+
+		final Button continuous = new Button(top, SWT.CHECK);
+		continuous.setText("Continuous discovery");
+		continuous.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, true, false));
+		continuous.setToolTipText("Periodically search for KNXnet/IP servers and update the list on changes");
+		continuous.addSelectionListener(selected(e -> setContinuousDiscovery(continuous.getSelection())));
+	}
+
+	@Override
+	protected void onDispose(final DisposeEvent e)
+	{
+		setContinuousDiscovery(false);
+		super.onDispose(e);
 	}
 
 	private void discover()
 	{
 		list.removeAll();
+		unconfirmed.clear();
+		showCachedEntries();
 		list.redraw();
 		log.removeAll();
 		supportsSearchResponseV2.clear();
+		endpoints.clear();
+		endpointItems.clear();
 
 		final var args = new ArrayList<String>();
 		args.add("search");
@@ -230,38 +261,17 @@ class DiscoverTab extends BaseTabLayout
 		asyncAddLog("Selecting an interface opens the connection dialog, checking makes it the default interface.");
 		asyncAddLog("KNXnet/IP discovery - using command line: " + String.join(" ", args));
 
-		final String sep = "\n";
 		try {
-			final Runnable r = new Discover(args.toArray(new String[0])) {
-				@Override
-				protected void onEndpointReceived(final Result<SearchResponse> result)
-				{
-					final StringBuilder buf = new StringBuilder();
-					final SearchResponse r = result.response();
-					buf.append("\"").append(r.getDevice().getName()).append("\"");
-					buf.append(" at ").append(r.getControlEndpoint());
-					buf.append(" -- using local interface ").append(result.networkInterface().getName()).append(" ");
-					buf.append(result.localEndpoint().getAddress());
-					buf.append("      ").append(r.getDevice().toString().replaceAll("\".*\"", "")).append(sep);
-					for (int i = buf.indexOf(", "); i != -1; i = buf.indexOf(", "))
-						buf.replace(i, i + 2, sep + "      ");
-					buf.append("      Supported services: ");
-					buf.append(r.getServiceFamilies().toString());
-
-					Main.syncExec(() -> addKnxnetipEndpoint(result, buf.toString()));
-				}
-
-				@Override
-				protected void onCompletion(final Exception thrown, final boolean canceled)
-				{
-					if (thrown != null)
-						asyncAddLog("error: " + thrown.getMessage());
-					asyncAddLog("KNXnet/IP discovery finished");
-				}
-			};
+			final Runnable r = newSearch(args.toArray(new String[0]), ConcurrentHashMap.newKeySet(), new AtomicBoolean(),
+					() -> {
+						asyncAddLog("KNXnet/IP discovery finished");
+						Main.asyncExec(() -> markUnconfirmed(IpAccess.class));
+						cache.save();
+					});
 			Executor.execute(r, "KNXnet/IP discovery");
 
 			final Runnable usb = () -> {
+				final var probes = new ArrayList<CompletableFuture<Void>>();
 				try {
 					asyncAddLog("Search for KNX USB interfaces");
 					final var knxUsbDevices = UsbConnectionFactory.attachedKnxUsbDevices();
@@ -270,26 +280,12 @@ class DiscoverTab extends BaseTabLayout
 					asyncAddLog("Found " + knxUsbDevices.size() + " KNX USB interfaces");
 					asyncAddLog("Found " + vserialKnxDevices.size() + " USB serial KNX interfaces");
 
-					Main.syncExec(() -> {
-						for (final var d : knxUsbDevices) {
-							try {
-								// check knx medium, defaults to TP1
-								int medium = KNXMediumSettings.MEDIUM_TP1;
-								try (UsbConnection c = UsbConnectionFactory.open(d)) {
-									medium = c.deviceDescriptor().medium().getMedium();
-								}
-								catch (KNXException | InterruptedException | RuntimeException e) {
-									asyncAddLog("reading KNX device descriptor of " + d,  e);
-								}
-
-								final String vp = String.format("%04x:%04x", d.vendorId(), d.productId());
-								addListItem("USB -- ID " + d,
-										new SerialAccess(Protocol.USB, d.product(), medium, vp, SerialNumber.Zero));
-							}
-							catch (final RuntimeException e) {
-								asyncAddLog("error: " + e.getMessage());
-							}
-						}
+					// probe all KNX USB interfaces concurrently, results are shown as they arrive
+					for (final var d : knxUsbDevices)
+						probes.add(probeUsbDevice(d));
+					Main.asyncExec(() -> {
+						if (list.isDisposed())
+							return;
 						for (final var d : vserialKnxDevices) {
 							try {
 								addListItem("TP-UART -- ID " + d,
@@ -309,6 +305,10 @@ class DiscoverTab extends BaseTabLayout
 				catch (final RuntimeException e) {
 					asyncAddLog("error: " + e.getMessage());
 				}
+				CompletableFuture.allOf(probes.toArray(new CompletableFuture<?>[0])).thenRun(() -> {
+					Main.asyncExec(() -> markUnconfirmed(SerialAccess.class));
+					cache.save();
+				});
 			};
 			Executor.execute(usb, "USB discovery");
 		}
@@ -317,10 +317,193 @@ class DiscoverTab extends BaseTabLayout
 		}
 	}
 
+	private Discover newSearch(final String[] args, final Set<Endpoint> responded, final AtomicBoolean changed,
+		final Runnable onCompletion)
+	{
+		final String sep = "\n";
+		return new Discover(args) {
+			@Override
+			protected void onEndpointReceived(final Result<SearchResponse> result)
+			{
+				final StringBuilder buf = new StringBuilder();
+				final SearchResponse r = result.response();
+				buf.append("\"").append(r.getDevice().getName()).append("\"");
+				buf.append(" at ").append(r.getControlEndpoint());
+				buf.append(" -- using local interface ").append(result.networkInterface().getName()).append(" ");
+				buf.append(result.localEndpoint().getAddress());
+				buf.append("      ").append(r.getDevice().toString().replaceAll("\".*\"", "")).append(sep);
+				for (int i = buf.indexOf(", "); i != -1; i = buf.indexOf(", "))
+					buf.replace(i, i + 2, sep + "      ");
+				buf.append("      Supported services: ");
+				buf.append(r.getServiceFamilies().toString());
+
+				if (onSearchResponse(result, buf.toString(), responded))
+					changed.set(true);
+			}
+
+			@Override
+			protected void onCompletion(final Exception thrown, final boolean canceled)
+			{
+				if (thrown != null)
+					asyncAddLog("error: " + thrown.getMessage());
+				onCompletion.run();
+			}
+		};
+	}
+
+	private void setContinuousDiscovery(final boolean enable)
+	{
+		// a search still running from a previous enable sees a new generation and does not reschedule
+		final int generation;
+		synchronized (searchGeneration) {
+			generation = searchGeneration.incrementAndGet();
+			final var pending = nextSearch;
+			if (pending != null)
+				pending.cancel(false);
+			nextSearch = null;
+		}
+		searchInterval = Config.get("discovery.interval", 10);
+		if (enable) {
+			asyncAddLog("Start continuous KNXnet/IP discovery");
+			searchArgs = nat.getSelection() ? new String[] { "search", "--nat" } : new String[] { "search" };
+			scheduleSearch(generation);
+		}
+		else
+			asyncAddLog("Stop continuous KNXnet/IP discovery");
+	}
+
+	private void scheduleSearch(final int generation)
+	{
+		final String[] args = searchArgs;
+		synchronized (searchGeneration) {
+			if (generation == searchGeneration.get())
+				nextSearch = Executor.scheduledExecutor().schedule(() -> Executor.execute(
+						() -> continuousSearch(args, generation), "KNXnet/IP continuous discovery"), searchInterval,
+						TimeUnit.SECONDS);
+		}
+	}
+
+	// runs a single search and updates the list with all added, changed, or removed endpoints; while the network is
+	// quiet, the search interval is doubled up to the configured maximum
+	private void continuousSearch(final String[] args, final int generation)
+	{
+		if (generation != searchGeneration.get())
+			return;
+		final Set<Endpoint> responded = ConcurrentHashMap.newKeySet();
+		final var changed = new AtomicBoolean();
+		newSearch(args, responded, changed, () -> {}).run();
+
+		for (final var endpoint : endpoints.keySet()) {
+			if (responded.contains(endpoint)) {
+				missedSearches.remove(endpoint);
+				continue;
+			}
+			if (missedSearches.merge(endpoint, 1, Integer::sum) < 2)
+				continue;
+			// consider endpoint removed after it did not respond to two searches in a row
+			missedSearches.remove(endpoint);
+			endpoints.remove(endpoint);
+			changed.set(true);
+			final String since = CacheFile.timestampFormat.format(Instant.now());
+			asyncAddLog("KNXnet/IP server " + endpoint.controlEndpoint() + " (" + endpoint.networkInterface()
+					+ ") stopped responding");
+			Main.asyncExec(() -> {
+				final TableItem item = endpointItems.get(endpoint);
+				if (item != null && !item.isDisposed())
+					item.setText(annotate(item.getText(), "not responding since " + since));
+			});
+		}
+
+		if (changed.get()) {
+			cache.save();
+			searchInterval = Config.get("discovery.interval", 10);
+		}
+		else
+			searchInterval = Math.min(2 * searchInterval, Config.get("discovery.maxInterval", 300));
+		if (!list.isDisposed())
+			scheduleSearch(generation);
+	}
+
+	// reads the KNX medium from the device descriptor, defaults to TP1 if the device does not respond in time
+	private CompletableFuture<Void> probeUsbDevice(final Device d) {
+		final var medium = new CompletableFuture<Integer>();
+		final Thread probe = Executor.execute(() -> {
+			try (UsbConnection c = UsbConnectionFactory.open(d)) {
+				medium.complete(c.deviceDescriptor().medium().getMedium());
+			}
+			catch (KNXException | InterruptedException | RuntimeException e) {
+				asyncAddLog("reading KNX device descriptor of " + d,  e);
+				medium.complete(KNXMediumSettings.MEDIUM_TP1);
+			}
+		}, "KNX USB probe " + d);
+
+		final int timeout = Config.get("discovery.usbTimeout", 5);
+		return medium.completeOnTimeout(-1, timeout, TimeUnit.SECONDS).thenAccept(m -> {
+			if (m == -1) {
+				probe.interrupt();
+				asyncAddLog("no response reading KNX device descriptor of " + d + " within " + timeout
+						+ " seconds, assume TP1");
+			}
+			final String vp = String.format("%04x:%04x", d.vendorId(), d.productId());
+			final var access = new SerialAccess(Protocol.USB, d.product(), m == -1 ? KNXMediumSettings.MEDIUM_TP1 : m,
+					vp, SerialNumber.Zero);
+			final String itemText = "USB -- ID " + d;
+			cache.seen(access, itemText);
+			Main.asyncExec(() -> {
+				if (!list.isDisposed())
+					addConfirmedItem(itemText, access);
+			});
+		});
+	}
+
 	void addListItem(final String itemText, final Access access) {
 		addListItem(new String[]{ itemText }, new String[]{ "access" }, new Object[] { access });
 	}
 
+	private void showCachedEntries() {
+		for (final var entry : cache.entries()) {
+			final TableItem item = new TableItem(list, SWT.NONE);
+			item.setText(annotate(entry, "cached"));
+			item.setData("access", entry.access());
+			item.setData("cached", entry);
+			unconfirmed.put(DiscoveryCache.key(entry.access(), entry.text()), item);
+		}
+	}
+
+	// replaces a matching cached entry still waiting for confirmation, or adds a new list item
+	private TableItem addConfirmedItem(final String itemText, final Access access) {
+		final TableItem cached = unconfirmed.remove(DiscoveryCache.key(access, itemText));
+		final TableItem item = cached != null && !cached.isDisposed() ? cached : new TableItem(list, SWT.NONE);
+		item.setText(itemText);
+		item.setData("access", access);
+		item.setData("cached", null);
+		item.setData("notFound", null);
+		return item;
+	}
+
+	private void markUnconfirmed(final Class<? extends Access> type) {
+		for (final var i = unconfirmed.values().iterator(); i.hasNext();) {
+			final TableItem item = i.next();
+			if (item.isDisposed())
+				i.remove();
+			else if (type.isInstance(item.getData("access"))) {
+				item.setText(annotate((DiscoveryCache.Entry) item.getData("cached"), "not found"));
+				item.setData("notFound", Boolean.TRUE);
+				i.remove();
+			}
+		}
+	}
+
+	private static String annotate(final DiscoveryCache.Entry entry, final String status) {
+		return annotate(entry.text(), status + ", last seen " + CacheFile.timestampFormat.format(entry.lastSeen()));
+	}
+
+	private static String annotate(final String text, final String status) {
+		final String note = "  [" + status + "]";
+		final int eol = text.indexOf('\n');
+		return eol == -1 ? text + note : text.substring(0, eol) + note + text.substring(eol);
+	}
+
 	@Override
 	protected void onListItemSelected(final SelectionEvent e)
 	{
@@ -331,22 +514,34 @@ class DiscoverTab extends BaseTabLayout
 
 	private static final String secureSymbol = new String(Character.toChars(0x1F512));
 
-	private final Set<InetSocketAddress> supportsSearchResponseV2 = new HashSet<>();
-
-	private void addKnxnetipEndpoint(final Result<SearchResponse> result, final String newItem)
+	// identifies a KNXnet/IP server endpoint as seen from a local network interface
+	private record Endpoint(SerialNumber serialNumber, InetSocketAddress controlEndpoint, String networkInterface) {}
+
+	private final Set<InetSocketAddress> supportsSearchResponseV2 = ConcurrentHashMap.newKeySet();
+	// item text of every endpoint shown in the list, used to drop duplicate responses
+	private final Map<Endpoint, String> endpoints = new ConcurrentHashMap<>();
+	// only accessed on the GUI thread
+	private final Map<Endpoint, TableItem> endpointItems = new HashMap<>();
+
+	// continuous discovery
+	private volatile ScheduledFuture<?> nextSearch;
+	// incremented on each change of continuous discovery, only a search of the current generation reschedules
+	private final AtomicInteger searchGeneration = new AtomicInteger();
+	private volatile int searchInterval; // seconds
+	private volatile String[] searchArgs;
+	private final Map<Endpoint, Integer> missedSearches = new ConcurrentHashMap<>();
+
+	// called by the discovery thread for every search response, only new or changed endpoints are posted to the GUI
+	private boolean onSearchResponse(final Result<SearchResponse> result, final String newItem,
+		final Set<Endpoint> responded)
 	{
-		// only add the new item if it is different from any already shown in the list
-		for (final TableItem item : list.getItems()) {
-			if (item.getText().equals(newItem))
-				return;
-		}
 		final SearchResponse r = result.response();
 		final DeviceDIB device = r.getDevice();
 
 		if (r.v2())
 			supportsSearchResponseV2.add(result.remoteEndpoint());
 		else if (supportsSearchResponseV2.contains(result.remoteEndpoint()))
-			return;
+			return false;
 
 		var mcast = Optional.<InetSocketAddress>empty();
 		try {
@@ -382,6 +577,31 @@ class DiscoverTab extends BaseTabLayout
 		final var access = new IpAccess(protocol, device.getName(), device.getKNXMedium(), localEP,
 				r.getControlEndpoint().endpoint(), mcast, secureServices, device.getAddress(),
 				device.serialNumber());
-		addListItem(itemText, access);
+		final var endpoint = new Endpoint(device.serialNumber(), r.getControlEndpoint().endpoint(),
+				result.networkInterface().getName());
+		// the first response of an endpoint in this search; a v2 response following the v1 response of the same
+		// search replaces the item text, but is no change of the description
+		final boolean firstResponse = responded.add(endpoint);
+		final String previous = endpoints.put(endpoint, itemText);
+		if (itemText.equals(previous))
+			return false;
+		if (previous != null && firstResponse)
+			asyncAddLog("KNXnet/IP server " + endpoint.controlEndpoint() + " (" + endpoint.networkInterface()
+					+ ") changed its description");
+
+		cache.seen(access, itemText);
+		final String text = itemText;
+		Main.asyncExec(() -> {
+			if (list.isDisposed())
+				return;
+			final TableItem item = endpointItems.get(endpoint);
+			if (item != null && !item.isDisposed()) {
+				item.setText(text);
+				item.setData("access", access);
+			}
+			else
+				endpointItems.put(endpoint, addConfirmedItem(text, access));
+		});
+		return true;
 	}
 }
@@ -0,0 +1,176 @@
+/*
+    Calimero GUI - A graphical user interface for the Calimero 3 tools
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.gui;
+
+import static java.util.stream.Collectors.joining;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.calimero.IndividualAddress;
+import io.calimero.KNXFormatException;
+import io.calimero.SerialNumber;
+import io.calimero.gui.ConnectArguments.Protocol;
+import io.calimero.gui.DiscoverTab.Access;
+import io.calimero.gui.DiscoverTab.IpAccess;
+import io.calimero.gui.DiscoverTab.SerialAccess;
+import io.calimero.knxnetip.KNXnetIPConnection;
+import io.calimero.knxnetip.util.ServiceFamiliesDIB.ServiceFamily;
+
+/**
+ * Persists discovered KNXnet/IP servers and USB interfaces across application runs, so that the discovery list
+ * (and the default interface) is available immediately on startup. Entries are keyed by KNX serial number, or by
+ * endpoint/port for interfaces without serial number; USB interfaces are additionally distinguished by their device
+ * description, because the port only consists of vendor and product ID.
+ */
+final class DiscoveryCache {
+	record Entry(Access access, String text, Instant lastSeen) {}
+
+	private static final CacheFile file = new CacheFile(".calimero-gui.discovered", "discovered interfaces");
+
+	private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+	DiscoveryCache() {
+		load();
+	}
+
+	static String key(final Access access) {
+		if (!SerialNumber.Zero.equals(access.serialNumber()))
+			return access.serialNumber().toString();
+		if (access instanceof final IpAccess ip)
+			return ip.remote().toString();
+		if (access instanceof final SerialAccess serial)
+			return access.protocol() + " " + serial.port();
+		return access.name();
+	}
+
+	// distinguishes identical USB interfaces using the item text, which contains the device description
+	static String key(final Access access, final String text) {
+		if (access.protocol() == Protocol.USB && SerialNumber.Zero.equals(access.serialNumber()))
+			return key(access) + " " + text;
+		return key(access);
+	}
+
+	synchronized List<Entry> entries() {
+		return List.copyOf(entries.values());
+	}
+
+	synchronized void seen(final Access access, final String text) {
+		if (access instanceof IpAccess || access instanceof SerialAccess)
+			entries.put(key(access, text), new Entry(access, text, Instant.now()));
+	}
+
+	synchronized void save() {
+		final Instant expired = CacheFile.expiry("discovery.retentionDays");
+		entries.values().removeIf(e -> e.lastSeen().isBefore(expired));
+		file.save(entries.values().stream().map(DiscoveryCache::format).toList());
+	}
+
+	private synchronized void load() {
+		file.load(fields -> {
+			final Entry e = parse(fields);
+			entries.put(key(e.access(), e.text()), e);
+		});
+	}
+
+	// tab-separated fields: last seen, protocol, name, medium, serial number, access type, access fields..., text
+	private static String[] format(final Entry e) {
+		final Access access = e.access();
+		final List<String> fields = new ArrayList<>();
+		fields.add(Long.toString(e.lastSeen().toEpochMilli()));
+		fields.add(access.protocol().name());
+		fields.add(access.name());
+		fields.add(Integer.toString(access.medium()));
+		fields.add(access.serialNumber().toString());
+		if (access instanceof final IpAccess ip) {
+			fields.add("ip");
+			fields.add(ip.localEP().getAddress().getHostAddress());
+			fields.add(ip.remote().getAddress().getHostAddress());
+			fields.add(Integer.toString(ip.remote().getPort()));
+			fields.add(ip.multicast().map(mcast -> mcast.getAddress().getHostAddress()).orElse(""));
+			fields.add(ip.securedServices().entrySet().stream().map(s -> s.getKey().name() + "=" + s.getValue())
+					.collect(joining(",")));
+			fields.add(ip.hostIA().toString());
+		}
+		else if (access instanceof final SerialAccess serial) {
+			fields.add("serial");
+			fields.add(serial.port());
+		}
+		fields.add(e.text());
+		return fields.toArray(String[]::new);
+	}
+
+	private static Entry parse(final String[] fields) throws KNXFormatException, UnknownHostException {
+		int i = 0;
+		final Instant lastSeen = Instant.ofEpochMilli(Long.parseLong(fields[i++]));
+		final Protocol protocol = Protocol.valueOf(fields[i++]);
+		final String name = fields[i++];
+		final int medium = Integer.parseInt(fields[i++]);
+		final SerialNumber sn = SerialNumber.of(Long.parseUnsignedLong(fields[i++].replace(":", ""), 16));
+		final String type = fields[i++];
+		final Access access;
+		if ("ip".equals(type)) {
+			final var localEP = new InetSocketAddress(InetAddress.getByName(fields[i++]), 0);
+			final var remoteAddress = InetAddress.getByName(fields[i++]);
+			final var remote = new InetSocketAddress(remoteAddress, Integer.parseInt(fields[i++]));
+			final String mcast = fields[i++];
+			final var multicast = mcast.isEmpty() ? Optional.<InetSocketAddress>empty()
+					: Optional.of(new InetSocketAddress(InetAddress.getByName(mcast), KNXnetIPConnection.DEFAULT_PORT));
+			final Map<ServiceFamily, Integer> secured = new EnumMap<>(ServiceFamily.class);
+			for (final String s : fields[i++].split(",")) {
+				if (!s.isEmpty())
+					secured.put(ServiceFamily.valueOf(s.substring(0, s.indexOf('='))),
+							Integer.parseInt(s.substring(s.indexOf('=') + 1)));
+			}
+			final var hostIA = new IndividualAddress(fields[i++]);
+			access = new IpAccess(protocol, name, medium, localEP, remote, multicast, Map.copyOf(secured), hostIA, sn);
+		}
+		else if ("serial".equals(type))
+			access = new SerialAccess(protocol, name, medium, fields[i++], sn);
+		else
+			throw new IllegalArgumentException("unknown access type '" + type + "'");
+		return new Entry(access, fields[i], lastSeen);
+	}
+}
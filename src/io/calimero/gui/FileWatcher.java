@@ -0,0 +1,128 @@
+/*
+    Calimero GUI - A graphical user interface for the Calimero 3 tools
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.gui;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.calimero.internal.Executor;
+
+/**
+ * Notifies listeners about files being created, modified, or deleted, using a single watch service for all files.
+ */
+final class FileWatcher {
+	private static final Map<Path, List<Runnable>> watched = new ConcurrentHashMap<>();
+	private static final Set<Path> watchedDirs = new HashSet<>();
+	private static WatchService watchService;
+
+	private FileWatcher() {}
+
+	/**
+	 * Runs {@code onChange} whenever {@code file} gets created, modified, or deleted.
+	 *
+	 * @param file file to watch, the file does not need to exist
+	 * @param onChange invoked on the watcher thread for every change
+	 * @return {@code true} if the file is watched, {@code false} if the file system does not support watching it
+	 */
+	static boolean watch(final Path file, final Runnable onChange) {
+		final Path path = file.toAbsolutePath().normalize();
+		final Path dir = path.getParent();
+		try {
+			synchronized (watchedDirs) {
+				if (watchService == null) {
+					watchService = dir.getFileSystem().newWatchService();
+					Executor.execute(FileWatcher::processEvents, "Calimero file watcher");
+				}
+				if (watchedDirs.add(dir))
+					dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+			}
+			final var listeners = watched.computeIfAbsent(path, __ -> new CopyOnWriteArrayList<>());
+			if (!listeners.contains(onChange))
+				listeners.add(onChange);
+			return true;
+		}
+		catch (IOException | RuntimeException e) {
+			System.out.println("Cannot watch '" + path + "' for changes: " + e.getMessage());
+			return false;
+		}
+	}
+
+	private static void processEvents() {
+		try {
+			while (true) {
+				final WatchKey key = watchService.take();
+				final Path dir = (Path) key.watchable();
+				final Set<Runnable> changed = new HashSet<>();
+				for (final var event : key.pollEvents()) {
+					if (event.kind() == OVERFLOW)
+						watched.forEach((file, listeners) -> {
+							if (file.getParent().equals(dir))
+								changed.addAll(listeners);
+						});
+					else
+						changed.addAll(watched.getOrDefault(dir.resolve((Path) event.context()), List.of()));
+				}
+				key.reset();
+				for (final Runnable onChange : changed) {
+					try {
+						onChange.run();
+					}
+					catch (final RuntimeException e) {
+						System.out.println("Error handling file change: " + e);
+					}
+				}
+			}
+		}
+		catch (InterruptedException | ClosedWatchServiceException e) {
+			System.out.println("File watcher stopped, changes to configuration files are no longer recognized");
+		}
+	}
+}
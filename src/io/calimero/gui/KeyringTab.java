@@ -273,8 +273,10 @@ class KeyringTab extends BaseTabLayout {
 	}
 
 	private static void loadKeyring(final String resource) {
+		Secrets.invalidate();
 		keyringPassword = new char[0];
 		keyring = Keyring.load(resource);
 		keyringResource = resource;
+		Secrets.watch(Path.of(resource));
 	}
 }
@@ -0,0 +1,118 @@
+/*
+    Calimero GUI - A graphical user interface for the Calimero 3 tools
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.gui;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Differences between a reference memory image and the device memory in a page cache. Differing bytes are kept as
+ * runs of consecutive addresses, memory not read from the device is not compared.
+ */
+final class MemoryDiff {
+	private final SortedMap<Long, byte[]> reference;
+	// start address -> end address (exclusive) of differing runs
+	private final TreeMap<Long, Long> runs = new TreeMap<>();
+	// sorted start addresses of the runs, for the index of a run
+	private long[] starts = {};
+	private long differing;
+	private long compared;
+
+	MemoryDiff(final SortedMap<Long, byte[]> reference) { this.reference = reference; }
+
+	void update(final MemoryPages pages) {
+		runs.clear();
+		differing = 0;
+		compared = 0;
+		for (final var segment : reference.entrySet()) {
+			final long start = segment.getKey();
+			final byte[] expected = segment.getValue();
+			for (final Map.Entry<Long, byte[]> live : pages.segments(start, start + expected.length).entrySet())
+				compare(live.getKey(), expected, (int) (live.getKey() - start), live.getValue());
+		}
+		starts = runs.keySet().stream().mapToLong(Long::longValue).toArray();
+	}
+
+	// Arrays.mismatch compares vectorized, only the differing runs are scanned byte by byte
+	private void compare(final long address, final byte[] expected, final int offset, final byte[] actual) {
+		final int length = actual.length;
+		compared += length;
+		for (int i = 0; i < length;) {
+			final int mismatch = Arrays.mismatch(expected, offset + i, offset + length, actual, i, length);
+			if (mismatch == -1)
+				break;
+			final int from = i + mismatch;
+			int to = from + 1;
+			while (to < length && expected[offset + to] != actual[to])
+				to++;
+			runs.put(address + from, address + to);
+			differing += to - from;
+			i = to;
+		}
+	}
+
+	boolean differs(final long address) {
+		final var run = runs.floorEntry(address);
+		return run != null && address < run.getValue();
+	}
+
+	// returns the differing run following address as { start, end }, or null
+	long[] next(final long address) {
+		final var run = runs.higherEntry(address);
+		return run != null ? new long[] { run.getKey(), run.getValue() } : null;
+	}
+
+	// returns the differing run preceding address as { start, end }, or null
+	long[] previous(final long address) {
+		final var run = runs.lowerEntry(address);
+		return run != null ? new long[] { run.getKey(), run.getValue() } : null;
+	}
+
+	// returns the 1-based index of the run at start, or of the run which would follow start
+	int index(final long start) {
+		final int i = Arrays.binarySearch(starts, start);
+		return (i >= 0 ? i : -i - 1) + 1;
+	}
+
+	int runs() { return runs.size(); }
+
+	long differing() { return differing; }
+
+	long compared() { return compared; }
+}
@@ -36,16 +36,21 @@
 
 package io.calimero.gui;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HexFormat;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.CTabFolder;
@@ -69,6 +74,7 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.MessageBox;
@@ -99,15 +105,27 @@ class MemoryEditor extends BaseTabLayout
 	private Composite editArea;
 	private Label binary;
 	private Button write;
+	private Button verify;
 
 	private final IndividualAddress device;
 	private Thread workerThread;
+	private MemorySession session;
+	private Thread sessionThread;
+	// the last session could not connect, don't connect again just for prefetching
+	private volatile boolean connectFailed;
 
 	private final int viewerColumns = 16;
 	private static final int initialStartAddress = 0x100;
-	private int viewerStartOffset = initialStartAddress;
+	// the views show a window of 64 KiB device memory, rows are created on demand
+	private static final int windowSize = 0x10000;
+	private long windowBase;
 
-	private final Map<Integer, Integer> modified = new ConcurrentHashMap<>();
+	private final MemoryPages pages = new MemoryPages();
+	// compares a snapshot or an image file with the memory read from the device
+	private MemoryDiff diff;
+	private long diffPosition = -1;
+	private Button previousDiff;
+	private Button nextDiff;
 
 	private static final Listener hexOnly = e -> {
 		final char[] chars = e.text.toLowerCase().toCharArray();
@@ -132,6 +150,138 @@ class MemoryEditor extends BaseTabLayout
 		}
 	}
 
+	// keeps one connection open for all memory accesses, queued commands are executed in order
+	private final class MemorySession extends MemoryTool {
+		// address and length denote the memory range of a read, onFailed runs if the command fails or is dropped
+		private record Request(Command command, long address, int length, Runnable onDone, Runnable onFailed,
+			Consumer<byte[]> onRead) {}
+
+		private final BlockingQueue<Request> requests = new LinkedBlockingQueue<>();
+		// guarded by requests, no more requests are accepted after the session ended
+		private boolean closed;
+		private Request current;
+		private boolean succeeded;
+
+		MemorySession() { super(connect.getArgs(false).toArray(String[]::new)); }
+
+		// onDone runs after the read, regardless whether the device provided the memory
+		void read(final int address, final int bytes, final Runnable onDone) {
+			submit(new Request(new Read(address, bytes), address & 0xffffffffL, bytes, onDone, onDone, null));
+		}
+
+		void write(final int address, final byte[] data, final Runnable onDone) {
+			submit(new Request(new Write(address, data), address & 0xffffffffL, 0, onDone,
+					() -> asyncAddLog(String.format("W[%s] with %d bytes not written", address(address & 0xffffffffL),
+							data.length)), null));
+		}
+
+		// reads back written memory and compares it with the expected data, the page cache is not updated so that
+		// memory modified again in the meantime is kept
+		void verify(final int address, final byte[] expected) {
+			submit(new Request(new Read(address, expected.length), address & 0xffffffffL, 0, () -> {},
+					() -> asyncAddLog("verify of 0x" + address(address & 0xffffffffL) + " not done"), data -> {
+				int mismatches = 0;
+				for (int i = 0; i < expected.length; i++) {
+					if (i >= data.length || data[i] != expected[i]) {
+						mismatches++;
+						asyncAddLog(String.format("verify W[%s]: wrote %02x, read %s", address(address + i),
+								expected[i], i < data.length ? String.format("%02x", data[i]) : "nothing"));
+					}
+				}
+				if (mismatches == 0)
+					asyncAddLog("verified " + expected.length + " bytes at 0x" + address(address));
+			}));
+		}
+
+		boolean isClosed() {
+			synchronized (requests) {
+				return closed;
+			}
+		}
+
+		private void submit(final Request request) {
+			synchronized (requests) {
+				if (!closed) {
+					requests.add(request);
+					return;
+				}
+			}
+			drop(request);
+		}
+
+		private void drop(final Request request) {
+			pages.cancelRequests(request.address(), request.address() + request.length());
+			request.onFailed().run();
+		}
+
+		@Override
+		protected Command fetchCommand() {
+			// we get here only after the previous command completed successfully
+			if (current != null) {
+				current.onDone().run();
+				current = null;
+				succeeded = true;
+			}
+			if (requests.isEmpty())
+				Main.asyncExec(MemoryEditor.this::onIdle);
+			try {
+				current = requests.take();
+				return current.command();
+			}
+			catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return Done;
+			}
+		}
+
+		@Override
+		protected void onMemoryRead(final int startAddress, final byte[] data) {
+			asyncAddLog(HexFormat.ofDelimiter(" ").formatHex(data));
+			if (current != null && current.onRead() != null) {
+				current.onRead().accept(data);
+				return;
+			}
+			pages.update(startAddress & 0xffffffffL, data);
+			Main.asyncExec(() -> refreshRows(startAddress & 0xffffffffL, data.length));
+		}
+
+		@Override
+		protected void onCompletion(final Exception thrown, final boolean canceled) {
+			super.onCompletion(thrown, canceled);
+			final List<Request> remaining = new ArrayList<>();
+			synchronized (requests) {
+				closed = true;
+				requests.drainTo(remaining);
+			}
+			final boolean failed = thrown != null && !canceled;
+			if (current != null) {
+				// don't request memory the device refused to provide again when scrolling
+				if (failed)
+					pages.unreadable(current.address(), current.address() + current.length());
+				drop(current);
+				current = null;
+			}
+
+			if (failed && succeeded && !remaining.isEmpty()) {
+				// the connection worked, only the failed command got rejected: continue with a new session
+				asyncAddLog("continue with " + remaining.size() + " remaining memory accesses");
+				Main.asyncExec(() -> {
+					if (!list.isDisposed())
+						remaining.forEach(session()::submit);
+				});
+				return;
+			}
+			remaining.forEach(this::drop);
+			if (failed && !succeeded)
+				connectFailed = true;
+			Main.asyncExec(() -> {
+				onIdle();
+				if (failed && !editArea.isDisposed())
+					setHeaderInfoPhase(statusInfo(2));
+			});
+		}
+	}
+
 
 	MemoryEditor(final CTabFolder tf, final ConnectArguments args)
 	{
@@ -160,6 +310,17 @@ class MemoryEditor extends BaseTabLayout
 		addAddressView();
 		addAsciiView();
 		addTableEditor(list);
+		for (final Table t : new Table[] { addressView, list, asciiView }) {
+			t.getVerticalBar().addSelectionListener(selected(e -> prefetch()));
+			t.addListener(SWT.MouseWheel, e -> Main.asyncExec(this::prefetch));
+		}
+		list.addListener(SWT.SetData, this::setMemoryRow);
+		addressView.addListener(SWT.SetData, e -> ((TableItem) e.item)
+				.setText(0, address(windowBase + (long) e.index * viewerColumns)));
+		asciiView.addListener(SWT.SetData, this::setAsciiRow);
+		setWindow(initialStartAddress);
+		for (final Table t : new Table[] { addressView, list, asciiView })
+			t.setTopIndex((int) (initialStartAddress - windowBase) / viewerColumns);
 
 		list.addListener(SWT.PaintItem, this::onItemPaint);
 		list.addListener(SWT.EraseItem, e -> {
@@ -186,7 +347,7 @@ class MemoryEditor extends BaseTabLayout
 
 		setStartOffset = new Text(top, SWT.BORDER | SWT.RIGHT);
 		setStartOffset.addListener(SWT.Verify, hexOnly);
-		setStartOffset.setTextLimit(4);
+		setStartOffset.setTextLimit(8);
 		setStartOffset.setText(address(initialStartAddress));
 		setStartOffset.addSelectionListener(new SelectionAdapter() {
 			@Override
@@ -224,7 +385,7 @@ class MemoryEditor extends BaseTabLayout
 		startLabel.setText("Offset (h):");
 
 		final Text start = new Text(editArea, SWT.BORDER | SWT.RIGHT);
-		start.setTextLimit(4);
+		start.setTextLimit(8);
 		start.pack();
 		RowData data = new RowData();
 		data.width = start.getBounds().width;
@@ -272,10 +433,44 @@ class MemoryEditor extends BaseTabLayout
 		data.width = 20;
 		spacer.setLayoutData(data);
 
+		final Button snapshot = new Button(editArea, SWT.NONE);
+		snapshot.setText("Snapshot");
+		snapshot.setToolTipText("Keep the memory read so far, subsequent reads are compared with it");
+		snapshot.addSelectionListener(selected(e -> showDiff("snapshot", pages.segments())));
+
+		final Button diffFile = new Button(editArea, SWT.NONE);
+		diffFile.setText("Diff file...");
+		diffFile.setToolTipText("Compare an Intel HEX or binary image with device memory");
+		diffFile.addSelectionListener(selected(e -> loadImage("Compare memory image",
+				image -> showDiff("image", image))));
+
+		previousDiff = new Button(editArea, SWT.NONE);
+		previousDiff.setText("Previous diff");
+		previousDiff.addSelectionListener(selected(e -> gotoDiff(false)));
+
+		nextDiff = new Button(editArea, SWT.NONE);
+		nextDiff.setText("Next diff");
+		nextDiff.addSelectionListener(selected(e -> gotoDiff(true)));
+
+		spacer = new Label(editArea, SWT.SEPARATOR);
+		data = new RowData();
+		data.height = read.getSize().y;
+		data.width = 20;
+		spacer.setLayoutData(data);
+
+		final Button importImage = new Button(editArea, SWT.NONE);
+		importImage.setText("Import image...");
+		importImage.setToolTipText("Load an Intel HEX or binary image and write back the bytes differing from device memory");
+		importImage.addSelectionListener(selected(e -> loadImage("Import memory image", this::applyImage)));
+
 		write = new Button(editArea, SWT.NONE);
 		write.setText("Write back modified memory");
 		write.addSelectionListener(selected(e -> writeModifiedMemory()));
 
+		verify = new Button(editArea, SWT.CHECK);
+		verify.setText("Verify");
+		verify.setToolTipText("Read back written memory and compare");
+
 		final Button restart = new Button(editArea, SWT.NONE);
 		restart.setText("Restart KNX device");
 		restart.addSelectionListener(selected(e -> restart()));
@@ -287,22 +482,39 @@ class MemoryEditor extends BaseTabLayout
 	@Override
 	protected void saveAs(final String resource)
 	{
+		final Path file = Paths.get(resource);
+		if (MemoryImage.isIntelHex(file) || resource.toLowerCase().endsWith(".bin")) {
+			exportImage(file);
+			return;
+		}
 		asyncAddLog("Export data in CSV format to " + resource);
 		try {
 			final char comma = ' ';
 			final char delim = '\n';
 
+			// export the rows containing read memory
+			long first = -1;
+			long last = -1;
+			for (long address = windowBase; address < windowBase + windowSize; address++) {
+				if (pages.get(address) != -1) {
+					if (first == -1)
+						first = address - address % viewerColumns;
+					last = address;
+				}
+			}
+
 			final Writer w = Files.newBufferedWriter(Paths.get(resource), StandardCharsets.UTF_8);
 			w.write("Start Offset ");
-			w.write(Integer.toHexString(viewerStartOffset));
+			w.write(Long.toHexString(first == -1 ? windowBase : first));
 			w.write(delim);
 
-			// write list
-			for (int i = 0; i < list.getItemCount(); i++) {
-				final TableItem ti = list.getItem(i);
-				w.append(ti.getText(0));
-				for (int k = 1; k < list.getColumnCount(); k++)
-					w.append(comma).append(ti.getText(k));
+			for (long row = first; first != -1 && row <= last; row += viewerColumns) {
+				for (int k = 0; k < viewerColumns; k++) {
+					final int v = pages.get(row + k);
+					if (k > 0)
+						w.append(comma);
+					w.append(v == -1 ? "" : String.format("%02x", v));
+				}
 				w.write('\n');
 			}
 			w.close();
@@ -314,11 +526,152 @@ class MemoryEditor extends BaseTabLayout
 		}
 	}
 
+	// exports all memory read so far, Intel HEX keeps the addresses, a binary image starts at the lowest address read
+	private void exportImage(final Path file)
+	{
+		final var segments = pages.segments();
+		if (segments.isEmpty()) {
+			asyncAddLog("Export aborted: no device memory read");
+			return;
+		}
+		final boolean hex = MemoryImage.isIntelHex(file);
+		asyncAddLog("Export memory image in " + (hex ? "Intel HEX" : "binary") + " format to " + file
+				+ (hex ? "" : ", image starts at 0x" + address(segments.firstKey())));
+		try {
+			if (hex)
+				MemoryImage.writeIntelHex(file, segments);
+			else
+				MemoryImage.writeBinary(file, segments, Config.get("memory.maxBinaryImageSize", 0x100_0000));
+			asyncAddLog("Export completed successfully");
+		}
+		catch (final IOException e) {
+			asyncAddLog("Export aborted with error: " + e.getMessage());
+		}
+	}
+
+	private void loadImage(final String title, final Consumer<SortedMap<Long, byte[]>> onLoaded)
+	{
+		final FileDialog dlg = new FileDialog(Main.shell, SWT.OPEN);
+		dlg.setText(title);
+		dlg.setFilterExtensions(new String[] { "*.hex;*.ihex;*.ihx", "*.bin", "*.*" });
+		dlg.setFilterNames(new String[] { "Intel HEX", "Binary image", "All files" });
+		final String resource = dlg.open();
+		if (resource == null)
+			return;
+		final Path file = Paths.get(resource);
+		// a binary image has no addresses, it is loaded at the current viewer start offset
+		final long binaryStart = Long.parseUnsignedLong(setStartOffset.getText().isEmpty() ? "0"
+				: setStartOffset.getText(), 16);
+		Executor.execute(() -> {
+			final SortedMap<Long, byte[]> image;
+			try {
+				image = MemoryImage.isIntelHex(file) ? MemoryImage.readIntelHex(file)
+						: MemoryImage.readBinary(file, binaryStart);
+			}
+			catch (final IOException e) {
+				asyncAddLog("Import of " + file + " failed: " + e.getMessage());
+				return;
+			}
+			Main.asyncExec(() -> readImageRange(file, image, onLoaded));
+		}, "Calimero memory image import");
+	}
+
+	// reads the device memory of the image range not known yet, then hands over the image
+	private void readImageRange(final Path file, final SortedMap<Long, byte[]> image,
+		final Consumer<SortedMap<Long, byte[]>> onRead)
+	{
+		int bytes = 0;
+		final List<long[]> unread = new ArrayList<>();
+		for (final var segment : image.entrySet()) {
+			bytes += segment.getValue().length;
+			unread.addAll(pages.request(segment.getKey(), segment.getKey() + segment.getValue().length, false));
+		}
+		asyncAddLog("loaded " + bytes + " bytes in " + image.size() + " segments from " + file);
+		if (unread.isEmpty())
+			onRead.accept(image);
+		else
+			read(unread, () -> Main.asyncExec(() -> onRead.accept(image)));
+	}
+
+	private void showDiff(final String name, final SortedMap<Long, byte[]> reference)
+	{
+		if (list.isDisposed())
+			return;
+		diff = new MemoryDiff(reference);
+		diffPosition = -1;
+		updateDiff();
+		asyncAddLog("compare device memory with " + name + ": " + diff.differing() + " of " + diff.compared()
+				+ " bytes differ in " + diff.runs() + " runs");
+	}
+
+	private void updateDiff()
+	{
+		if (diff == null)
+			return;
+		diff.update(pages);
+		previousDiff.setEnabled(diff.runs() > 0);
+		nextDiff.setEnabled(diff.runs() > 0);
+		list.redraw();
+	}
+
+	// scrolls to the next or previous run of differing bytes
+	private void gotoDiff(final boolean next)
+	{
+		if (diff == null) {
+			asyncAddLog("take a snapshot or choose an image file to compare device memory with");
+			return;
+		}
+		final long[] run = next ? diff.next(diffPosition) : diff.previous(diffPosition);
+		if (run == null) {
+			asyncAddLog("no " + (next ? "next" : "previous") + " memory difference");
+			return;
+		}
+		diffPosition = run[0];
+		asyncAddLog(String.format("difference %d of %d: 0x%s to 0x%s (%d bytes)", diff.index(run[0]), diff.runs(),
+				address(run[0]), address(run[1] - 1), run[1] - run[0]));
+		setStartOffset.setText(address(run[0] - run[0] % viewerColumns));
+		setViewerStartOffset();
+	}
+
+	private void applyImage(final SortedMap<Long, byte[]> image)
+	{
+		if (list.isDisposed())
+			return;
+		int differing = 0;
+		int unknown = 0;
+		for (final var segment : image.entrySet()) {
+			final long start = segment.getKey();
+			final byte[] data = segment.getValue();
+			for (int i = 0; i < data.length; i++) {
+				if (pages.get(start + i) == -1)
+					unknown++;
+				else if (pages.modify(start + i, data[i] & 0xff))
+					differing++;
+			}
+			refreshRows(start, data.length);
+		}
+		asyncAddLog(differing + " bytes of the image differ from device memory"
+				+ (unknown > 0 ? ", " + unknown + " bytes could not be read from the device" : ""));
+		if (differing > 0 && askUser("Write Memory Image", "Write " + differing
+				+ " differing bytes to device " + device + "?") == SWT.YES)
+			writeModifiedMemory();
+		else
+			write.setEnabled(pages.isModified());
+	}
+
+	@Override
+	protected int listStyle()
+	{
+		return SWT.VIRTUAL;
+	}
+
 	@Override
 	protected void onDispose(final DisposeEvent e)
 	{
 		if (workerThread != null)
 			workerThread.interrupt();
+		if (sessionThread != null)
+			sessionThread.interrupt();
 	}
 
 	private void addAddressView()
@@ -336,7 +689,8 @@ class MemoryEditor extends BaseTabLayout
 		layout.horizontalSpacing = 0;
 		composite.setLayout(layout);
 
-		addressView = new Table(composite, SWT.SINGLE | SWT.HIDE_SELECTION | SWT.V_SCROLL | SWT.BORDER | SWT.NO_FOCUS);
+		addressView = new Table(composite,
+				SWT.SINGLE | SWT.HIDE_SELECTION | SWT.V_SCROLL | SWT.BORDER | SWT.NO_FOCUS | SWT.VIRTUAL);
 		addressView.setLayoutData(new GridData(SWT.LEFT, SWT.FILL, false, true));
 		final TableColumn column = new TableColumn(addressView, SWT.FILL);
 		column.setText("Offset (h)");
@@ -359,7 +713,8 @@ class MemoryEditor extends BaseTabLayout
 
 	private void addAsciiView()
 	{
-		asciiView = new Table(detailPane, SWT.SINGLE | SWT.HIDE_SELECTION | SWT.V_SCROLL | SWT.BORDER | SWT.NO_FOCUS);
+		asciiView = new Table(detailPane,
+				SWT.SINGLE | SWT.HIDE_SELECTION | SWT.V_SCROLL | SWT.BORDER | SWT.NO_FOCUS | SWT.VIRTUAL);
 		for (int i = 0; i < viewerColumns; i++) {
 			final TableColumn c = new TableColumn(asciiView, SWT.CENTER | SWT.NO_FOCUS);
 			c.setResizable(false);
@@ -420,8 +775,9 @@ class MemoryEditor extends BaseTabLayout
 	{
 		if (event.type == SWT.PaintItem && event.item != null) {
 			final TableItem ti = (TableItem) event.item;
-			final int location = viewerStartOffset + list.indexOf(ti) * viewerColumns + event.index;
-			final int fgnd = modified.containsKey(location) ? SWT.COLOR_DARK_YELLOW : SWT.COLOR_LIST_FOREGROUND;
+			final long location = windowBase + (long) list.indexOf(ti) * viewerColumns + event.index;
+			final int fgnd = pages.state(location) == MemoryPages.Dirty ? SWT.COLOR_DARK_YELLOW
+					: diff != null && diff.differs(location) ? SWT.COLOR_RED : SWT.COLOR_LIST_FOREGROUND;
 			event.gc.setForeground(Main.display.getSystemColor(fgnd));
 			final Rectangle rect = ti.getTextBounds(event.index);
 			final Point extent = event.gc.stringExtent(ti.getText(event.index));
@@ -487,9 +843,12 @@ class MemoryEditor extends BaseTabLayout
 			return;
 		final int v = Integer.parseUnsignedInt(value, 16);
 		if (v != Integer.parseUnsignedInt(item.getText(column), 16)) {
-			final int location = viewerStartOffset + row * viewerColumns + column;
-			addToModifiedList(location, v);
-			item.setText(column, value);
+			final long location = windowBase + (long) row * viewerColumns + column;
+			if (pages.modify(location, v)) {
+				asyncAddLog(String.format("add W[%s]=%02x to modified memory list", address(location), v));
+				item.setText(column, value);
+				write.setEnabled(true);
+			}
 		}
 	}
 
@@ -503,17 +862,61 @@ class MemoryEditor extends BaseTabLayout
 
 	private void setViewerStartOffset()
 	{
-		final int offset = Integer.parseUnsignedInt(setStartOffset.getText(), 16);
-		while (viewerStartOffset > offset) {
-			viewerStartOffset -= viewerColumns;
-			addMemoryRow(true);
+		final long offset = Long.parseUnsignedLong(setStartOffset.getText(), 16);
+		if (offset < windowBase || offset >= windowBase + windowSize)
+			setWindow(offset);
+		final int row = (int) (offset - windowBase) / viewerColumns;
+		for (final Table t : new Table[] { addressView, list, asciiView })
+			t.setTopIndex(row);
+		prefetch();
+	}
+
+	// moves the views to the 64 KiB window containing offset
+	private void setWindow(final long offset)
+	{
+		windowBase = offset & ~(windowSize - 1L);
+		for (final Table t : new Table[] { addressView, list, asciiView }) {
+			t.setItemCount(windowSize / viewerColumns);
+			t.clearAll();
 		}
-		while (viewerStartOffset + viewerColumns <= offset) {
-			viewerStartOffset += viewerColumns;
-			removeTopRow();
+	}
+
+	private void setMemoryRow(final Event e)
+	{
+		final TableItem item = (TableItem) e.item;
+		final long row = windowBase + (long) e.index * viewerColumns;
+		for (int i = 0; i < viewerColumns; i++) {
+			final int v = pages.get(row + i);
+			item.setText(i, v == -1 ? "" : String.format("%02x", v));
 		}
 	}
 
+	private void setAsciiRow(final Event e)
+	{
+		final TableItem item = (TableItem) e.item;
+		final long row = windowBase + (long) e.index * viewerColumns;
+		for (int i = 0; i < viewerColumns; i++) {
+			final int v = pages.get(row + i);
+			// 7-bit ascii printable would be: v > 0x1f && v < 0x7f
+			item.setText(i, v == -1 ? "" : isPrintable((char) v) ? String.valueOf((char) v) : ".");
+		}
+	}
+
+	// re-renders the rows of the memory range, if shown in the current window
+	private void refreshRows(final long address, final int length)
+	{
+		if (list.isDisposed())
+			return;
+		final long from = Math.max(address, windowBase);
+		final long to = Math.min(address + length, windowBase + windowSize);
+		if (from >= to)
+			return;
+		final int first = (int) (from - windowBase) / viewerColumns;
+		final int last = (int) (to - 1 - windowBase) / viewerColumns;
+		for (final Table t : new Table[] { list, asciiView })
+			t.clear(first, last);
+	}
+
 	private void restart() {
 		if (askUser("Restart KNX Device " + device, "Perform a confirmed restart of " + device
 				+ " in connection-less mode?") != SWT.YES)
@@ -539,7 +942,19 @@ class MemoryEditor extends BaseTabLayout
 		final var args = connect.getArgs(false);
 		args.add("--confirmed");
 		final var confirmedRestart = new RestartTool(args.toArray(String[]::new));
+		final Thread memoryAccess = sessionThread;
+		session = null;
 		runWorker(4, () -> {
+			// close our memory session, some interfaces don't allow a second connection
+			if (memoryAccess != null) {
+				memoryAccess.interrupt();
+				try {
+					memoryAccess.join();
+				}
+				catch (final InterruptedException e) {
+					return;
+				}
+			}
 			confirmedRestart.run();
 			if (tryBasicRestart.get()) {
 				asyncAddLog("resort to basic restart");
@@ -567,43 +982,96 @@ class MemoryEditor extends BaseTabLayout
 		return id;
 	}
 
+	// writes modified memory in ascending order, consecutive bytes are coalesced into a single write of at most
+	// memory.writeChunkSize bytes
 	private void writeModifiedMemory() {
-		final var i = modified.entrySet().iterator();
-		final var entry = new AtomicReference<Map.Entry<Integer, Integer>>();
-		final var tool = new MemoryTool(connect.getArgs(false).toArray(String[]::new)) {
-			@Override
-			protected Command fetchCommand() {
-				final var last = entry.get();
-				if (last != null)
-					modified.remove(last.getKey());
-				if (!i.hasNext())
-					return Done;
-				final var next = i.next();
-				entry.set(next);
-				asyncAddLog(String.format("apply W[%s]=%02x to device memory", address(next.getKey()), next.getValue()));
-				return new Write(next.getKey(), (byte) (int) next.getValue());
+		setHeaderInfoPhase(statusInfo(3));
+		final int chunk = Math.max(1, Config.get("memory.writeChunkSize", 12));
+		final boolean readBack = verify.getSelection();
+		final var memory = session();
+		final var run = new ByteArrayOutputStream();
+		long start = -1;
+		for (final var entry : pages.modified().entrySet()) {
+			final long address = entry.getKey();
+			if (start != -1 && (address != start + run.size() || run.size() == chunk)) {
+				write(memory, start, run.toByteArray(), readBack);
+				run.reset();
 			}
-		};
+			if (run.size() == 0)
+				start = address;
+			run.write(entry.getValue());
+		}
+		if (run.size() > 0)
+			write(memory, start, run.toByteArray(), readBack);
+	}
 
-		runWorker(3, tool);
+	private void write(final MemorySession memory, final long address, final byte[] data, final boolean readBack) {
+		asyncAddLog(String.format("apply W[%s]=%s to device memory", address(address),
+				HexFormat.ofDelimiter(" ").formatHex(data)));
+		memory.write((int) address, data, () -> {
+			for (int i = 0; i < data.length; i++)
+				pages.written(address + i, data[i] & 0xff);
+		});
+		if (readBack)
+			memory.verify((int) address, data);
 	}
 
 	private void readMemory(final long startAddress, final int bytes) {
-		final var args = connect.getArgs(false);
-		args.add("read");
-		args.add("0x" + Long.toHexString(startAddress));
-		args.add("" + bytes);
+		asyncAddLog("read device memory range 0x" + address(startAddress) + " to 0x" + address(startAddress + bytes));
+		read(pages.request(startAddress, startAddress + bytes, true));
+	}
 
-		final var tool = new MemoryTool(args.toArray(String[]::new)) {
-			@Override
-			protected void onMemoryRead(final int startAddress, final byte[] data) {
-				asyncAddLog(HexFormat.ofDelimiter(" ").formatHex(data));
-				Main.asyncExec(() -> updateMemoryRange(startAddress, data));
+	private void read(final List<long[]> ranges) {
+		read(ranges, () -> {});
+	}
+
+	// read in chunks, so memory shows up while reading and prefetching can continue where the last read stopped;
+	// onDone runs after the last chunk got read
+	private void read(final List<long[]> ranges, final Runnable onDone) {
+		if (device == null || ranges.isEmpty())
+			return;
+		setHeaderInfoPhase(statusInfo(0));
+		final int chunk = Math.max(1, Config.get("memory.readChunkSize", 64));
+		final var memory = session();
+		final long end = ranges.getLast()[1];
+		for (final long[] range : ranges)
+			for (long address = range[0]; address < range[1]; address += chunk) {
+				final int bytes = (int) Math.min(chunk, range[1] - address);
+				memory.read((int) address, bytes, address + bytes == end ? onDone : () -> {});
 			}
-		};
+	}
 
-		asyncAddLog("read device memory range 0x" + address(startAddress) + " to 0x" + address(startAddress + bytes));
-		runWorker(0, tool);
+	// reads the visible rows and the rows of the next screen, if not read already
+	private void prefetch() {
+		if (list.isDisposed() || connectFailed)
+			return;
+		final int visibleRows = Math.max(1, list.getClientArea().height / Math.max(1, list.getItemHeight()));
+		final long from = windowBase + (long) list.getTopIndex() * viewerColumns;
+		final long to = Math.min(from + 2L * visibleRows * viewerColumns, windowBase + windowSize);
+		read(pages.request(from, to, false));
+	}
+
+	private MemorySession session() {
+		if (session == null || session.isClosed() || !sessionThread.isAlive()) {
+			connectFailed = false;
+			session = new MemorySession();
+			sessionThread = Executor.execute(session, "Calimero memory session");
+		}
+		return session;
+	}
+
+	private void onIdle() {
+		if (editArea.isDisposed())
+			return;
+		setHeaderInfoPhase(statusInfo(1));
+		for (final Control c : editArea.getChildren()) {
+			if (c != write || pages.isModified())
+				c.setEnabled(true);
+		}
+		// memory read in the meantime changes the difference to the snapshot or image
+		updateDiff();
+		// repaint memory written back in the meantime
+		list.redraw();
 	}
 
 	private void runWorker(int phase, final Runnable r)
@@ -622,7 +1090,7 @@ class MemoryEditor extends BaseTabLayout
 					setHeaderInfoPhase(statusInfo(1));
 					editArea.setEnabled(true);
 					for (final Control c : editArea.getChildren()) {
-						if (c != write || !modified.isEmpty())
+						if (c != write || pages.isModified())
 							c.setEnabled(true);
 					}
 				});
@@ -630,62 +1098,6 @@ class MemoryEditor extends BaseTabLayout
 		}, "Calimero memory worker");
 	}
 
-	private void addMemoryRow(final boolean topOfList)
-	{
-		final int index = topOfList ? 0 : addressView.getItemCount();
-		final TableItem ti = new TableItem(addressView, SWT.NONE, index);
-		ti.setText(0, address(viewerStartOffset + index * viewerColumns));
-		new TableItem(list, SWT.NONE, index);
-		new TableItem(asciiView, SWT.NONE, index);
-	}
-
-	private void removeTopRow()
-	{
-		if (addressView.getItemCount() == 0)
-			return;
-		final int index = 0;
-		addressView.remove(index);
-		list.remove(index);
-		asciiView.remove(index);
-	}
-
-	private void updateMemoryRange(final int address, final byte[] data)
-	{
-		while ((viewerStartOffset + list.getItemCount() * viewerColumns) < (address + data.length))
-			addMemoryRow(false);
-		for (int i = 0; i < data.length; i++) {
-			removeFromModifiedList(address + i);
-
-			final int row = (address + i - viewerStartOffset) / viewerColumns;
-			if (row < 0)
-				continue;
-			final TableItem memory = list.getItem(row);
-			final int index = (address + i - viewerStartOffset) % viewerColumns;
-			final int v = data[i] & 0xff;
-			memory.setText(index, String.format("%02x", v));
-
-			final TableItem ascii = asciiView.getItem(row);
-			// 7-bit ascii printable would be: v > 0x1f && v < 0x7f
-			ascii.setText(index, isPrintable((char) v) ? String.valueOf((char) v) : ".");
-		}
-	}
-
-	private void addToModifiedList(final int address, final int value)
-	{
-		modified.put(address, value);
-		asyncAddLog(String.format("add W[%s]=%02x to modified memory list", address(address), value));
-		write.setEnabled(true);
-	}
-
-	private void removeFromModifiedList(final int address)
-	{
-		final Integer v = modified.remove(address);
-		if (v != null)
-			asyncAddLog(String.format("remove W[%s]=%s from modified memory list", address(address), v));
-		if (modified.isEmpty())
-			write.setEnabled(false);
-	}
-
 	private static String statusInfo(final int phase) {
 		return switch (phase) {
 			case 0 -> "Reading memory of";
@@ -0,0 +1,205 @@
+/*
+    Calimero GUI - A graphical user interface for the Calimero 3 tools
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.gui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Reads and writes memory images in Intel HEX or raw binary format. An image consists of segments of contiguous
+ * memory, keyed by start address.
+ */
+final class MemoryImage {
+	private static final int BytesPerRecord = 16;
+
+	private MemoryImage() {}
+
+	static boolean isIntelHex(final Path file) {
+		final String name = file.getFileName().toString().toLowerCase();
+		return name.endsWith(".hex") || name.endsWith(".ihex") || name.endsWith(".ihx");
+	}
+
+	static void writeIntelHex(final Path file, final SortedMap<Long, byte[]> segments) throws IOException {
+		try (var w = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+			long upper = 0;
+			for (final var segment : segments.entrySet()) {
+				final byte[] data = segment.getValue();
+				for (int offset = 0; offset < data.length;) {
+					final long address = segment.getKey() + offset;
+					if ((address >>> 16) != upper) {
+						upper = address >>> 16;
+						w.write(record(4, 0, new byte[] { (byte) (upper >> 8), (byte) upper }));
+						w.newLine();
+					}
+					// a record must not cross a 64 KiB boundary
+					final int length = (int) Math.min(Math.min(BytesPerRecord, data.length - offset),
+							0x10000 - (address & 0xffff));
+					final byte[] chunk = new byte[length];
+					System.arraycopy(data, offset, chunk, 0, length);
+					w.write(record(0, (int) (address & 0xffff), chunk));
+					w.newLine();
+					offset += length;
+				}
+			}
+			w.write(record(1, 0, new byte[0]));
+			w.newLine();
+		}
+	}
+
+	static SortedMap<Long, byte[]> readIntelHex(final Path file) throws IOException {
+		final SortedMap<Long, byte[]> segments = new TreeMap<>();
+		final var segment = new ByteArrayOutputStream();
+		long segmentStart = -1;
+		long base = 0;
+		int lineNumber = 0;
+		try (var lines = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+			for (String line; (line = lines.readLine()) != null;) {
+				lineNumber++;
+				line = line.strip();
+				if (line.isEmpty())
+					continue;
+				if (line.charAt(0) != ':' || line.length() < 11 || line.length() % 2 == 0)
+					throw new IOException("invalid Intel HEX record in line " + lineNumber);
+				final byte[] record = HexFormat.of().parseHex(line, 1, line.length());
+				int checksum = 0;
+				for (final byte b : record)
+					checksum += b;
+				final int length = record[0] & 0xff;
+				if ((checksum & 0xff) != 0 || record.length != length + 5)
+					throw new IOException("invalid Intel HEX record in line " + lineNumber);
+
+				final int offset = (record[1] & 0xff) << 8 | record[2] & 0xff;
+				final int type = record[3] & 0xff;
+				if (type == 1)
+					break;
+				if (type == 2)
+					base = (long) ((record[4] & 0xff) << 8 | record[5] & 0xff) << 4;
+				else if (type == 4)
+					base = (long) ((record[4] & 0xff) << 8 | record[5] & 0xff) << 16;
+				else if (type == 0) {
+					final long address = base + offset;
+					if (segmentStart == -1 || address != segmentStart + segment.size()) {
+						if (segmentStart != -1)
+							segments.put(segmentStart, segment.toByteArray());
+						segment.reset();
+						segmentStart = address;
+					}
+					segment.write(record, 4, length);
+				}
+				// ignore start address records (types 3 and 5)
+			}
+		}
+		catch (final IllegalArgumentException e) {
+			throw new IOException("invalid Intel HEX record in line " + lineNumber, e);
+		}
+		if (segmentStart != -1)
+			segments.put(segmentStart, segment.toByteArray());
+		return segments;
+	}
+
+	// writes the memory from the lowest to the highest segment address, gaps are filled with 0xff; images spanning
+	// more than maxSize bytes are refused, because sparse images would result in huge files
+	static void writeBinary(final Path file, final SortedMap<Long, byte[]> segments, final long maxSize)
+			throws IOException {
+		if (!segments.isEmpty()) {
+			final long span = segments.lastKey() + segments.get(segments.lastKey()).length - segments.firstKey();
+			if (span > maxSize)
+				throw new IOException("binary image would span " + span + " bytes (limit " + maxSize
+						+ " bytes), use Intel HEX for sparse memory images");
+		}
+		try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			if (segments.isEmpty())
+				return;
+			final long start = segments.firstKey();
+			final ByteBuffer gap = ByteBuffer.allocate(4096);
+			long position = 0;
+			for (final Map.Entry<Long, byte[]> segment : segments.entrySet()) {
+				for (long fill = segment.getKey() - start - position; fill > 0;) {
+					gap.clear();
+					while (gap.hasRemaining())
+						gap.put((byte) 0xff);
+					gap.flip().limit((int) Math.min(gap.capacity(), fill));
+					fill -= channel.write(gap);
+				}
+				position = segment.getKey() - start;
+				channel.write(ByteBuffer.wrap(segment.getValue()), position);
+				position += segment.getValue().length;
+				channel.position(position);
+			}
+		}
+	}
+
+	static SortedMap<Long, byte[]> readBinary(final Path file, final long startAddress) throws IOException {
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			final long size = channel.size();
+			if (size > Integer.MAX_VALUE - 8)
+				throw new IOException("binary image of " + size + " bytes exceeds the supported size of 2 GiB");
+			if (startAddress + size > 0x1_0000_0000L)
+				throw new IOException("image of " + size + " bytes exceeds the 32 bit address space");
+			final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+			while (buffer.hasRemaining() && channel.read(buffer) != -1) {}
+			final SortedMap<Long, byte[]> segments = new TreeMap<>();
+			segments.put(startAddress, buffer.array());
+			return segments;
+		}
+	}
+
+	private static String record(final int type, final int address, final byte[] data) {
+		final byte[] record = new byte[data.length + 5];
+		record[0] = (byte) data.length;
+		record[1] = (byte) (address >> 8);
+		record[2] = (byte) address;
+		record[3] = (byte) type;
+		System.arraycopy(data, 0, record, 4, data.length);
+		int checksum = 0;
+		for (int i = 0; i < record.length - 1; i++)
+			checksum += record[i];
+		record[record.length - 1] = (byte) -checksum;
+		return ":" + HexFormat.of().withUpperCase().formatHex(record);
+	}
+}
@@ -0,0 +1,226 @@
+/*
+    Calimero GUI - A graphical user interface for the Calimero 3 tools
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.gui;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Sparse cache of KNX device memory, organized in pages of 4 KiB. For each byte, the cache keeps track whether it is
+ * unread, unreadable, requested from the device, read, or modified by the user. Only pages which contain accessed
+ * memory are allocated, which allows addressing the 32 bit memory space with bounded memory.
+ */
+final class MemoryPages {
+	static final int PageSize = 4096;
+
+	static final byte Unread = 0;
+	static final byte Unreadable = 1;
+	static final byte Pending = 2;
+	static final byte Clean = 3;
+	static final byte Dirty = 4;
+
+	private static final class Page {
+		final byte[] data = new byte[PageSize];
+		final byte[] state = new byte[PageSize];
+	}
+
+	private final TreeMap<Long, Page> pages = new TreeMap<>();
+
+	private Page page(final long address, final boolean create) {
+		final long base = address & ~(PageSize - 1L);
+		final Page page = pages.get(base);
+		if (page != null || !create)
+			return page;
+		final Page created = new Page();
+		pages.put(base, created);
+		return created;
+	}
+
+	synchronized byte state(final long address) {
+		final Page page = page(address, false);
+		return page != null ? page.state[(int) (address & (PageSize - 1))] : Unread;
+	}
+
+	// returns the byte value, or -1 if unread
+	synchronized int get(final long address) {
+		final Page page = page(address, false);
+		if (page == null)
+			return -1;
+		final int offset = (int) (address & (PageSize - 1));
+		return page.state[offset] >= Clean ? page.data[offset] & 0xff : -1;
+	}
+
+	// stores memory read from the device, this discards any modification of that memory
+	synchronized void update(final long address, final byte[] data) {
+		for (int i = 0; i < data.length; i++) {
+			final Page page = page(address + i, true);
+			final int offset = (int) ((address + i) & (PageSize - 1));
+			page.data[offset] = data[i];
+			page.state[offset] = Clean;
+		}
+	}
+
+	synchronized boolean modify(final long address, final int value) {
+		final Page page = page(address, false);
+		final int offset = (int) (address & (PageSize - 1));
+		if (page == null || page.state[offset] < Clean || (page.data[offset] & 0xff) == value)
+			return false;
+		page.data[offset] = (byte) value;
+		page.state[offset] = Dirty;
+		return true;
+	}
+
+	// marks a modified byte as clean after it was written to the device, unless it got modified again
+	synchronized void written(final long address, final int value) {
+		final Page page = page(address, false);
+		final int offset = (int) (address & (PageSize - 1));
+		if (page != null && page.state[offset] == Dirty && (page.data[offset] & 0xff) == value)
+			page.state[offset] = Clean;
+	}
+
+	/**
+	 * Marks the memory range as requested from the device.
+	 *
+	 * @param from start address (inclusive)
+	 * @param to end address (exclusive)
+	 * @param reread <code>true</code> to request read, modified, or unreadable memory again, <code>false</code> to
+	 *        request only unread memory
+	 * @return the requested ranges as <code>{ start, end }</code> pairs
+	 */
+	synchronized List<long[]> request(final long from, final long to, final boolean reread) {
+		final List<long[]> ranges = new ArrayList<>();
+		long start = -1;
+		for (long address = from; address < to; address++) {
+			final byte state = state(address);
+			final boolean request = state == Unread || (reread && state != Pending);
+			if (request) {
+				page(address, true).state[(int) (address & (PageSize - 1))] = Pending;
+				if (start == -1)
+					start = address;
+			}
+			else if (start != -1) {
+				ranges.add(new long[] { start, address });
+				start = -1;
+			}
+		}
+		if (start != -1)
+			ranges.add(new long[] { start, to });
+		return ranges;
+	}
+
+	// marks requested memory which the device refused to provide, it is only requested again by an explicit reread
+	synchronized void unreadable(final long from, final long to) {
+		for (long address = from; address < to; address++) {
+			final Page page = page(address, false);
+			final int offset = (int) (address & (PageSize - 1));
+			if (page != null && page.state[offset] == Pending)
+				page.state[offset] = Unreadable;
+		}
+	}
+
+	// resets requested memory which was not received, e.g., after the connection got closed
+	synchronized void cancelRequests(final long from, final long to) {
+		for (long address = from; address < to; address++) {
+			final Page page = page(address, false);
+			final int offset = (int) (address & (PageSize - 1));
+			if (page != null && page.state[offset] == Pending)
+				page.state[offset] = Unread;
+		}
+	}
+
+	synchronized boolean isModified() {
+		for (final Page page : pages.values())
+			for (final byte state : page.state)
+				if (state == Dirty)
+					return true;
+		return false;
+	}
+
+	// all modified bytes, sorted by address
+	synchronized SortedMap<Long, Integer> modified() {
+		final SortedMap<Long, Integer> modified = new TreeMap<>();
+		for (final var entry : pages.entrySet()) {
+			final Page page = entry.getValue();
+			for (int i = 0; i < PageSize; i++)
+				if (page.state[i] == Dirty)
+					modified.put(entry.getKey() + i, page.data[i] & 0xff);
+		}
+		return modified;
+	}
+
+	// read or modified memory as segments of contiguous bytes, keyed by start address
+	SortedMap<Long, byte[]> segments() {
+		return segments(0, 0x1_0000_0000L);
+	}
+
+	/**
+	 * Returns the read or modified memory in the range as segments of contiguous bytes.
+	 *
+	 * @param from start address (inclusive)
+	 * @param to end address (exclusive)
+	 * @return segments keyed by start address
+	 */
+	synchronized SortedMap<Long, byte[]> segments(final long from, final long to) {
+		final SortedMap<Long, byte[]> segments = new TreeMap<>();
+		final var segment = new ByteArrayOutputStream();
+		long start = -1;
+		for (final var entry : pages.subMap(from & ~(PageSize - 1L), to).entrySet()) {
+			final Page page = entry.getValue();
+			final int first = (int) Math.max(0, from - entry.getKey());
+			final int last = (int) Math.min(PageSize, to - entry.getKey());
+			for (int i = first; i < last; i++) {
+				final long address = entry.getKey() + i;
+				if (page.state[i] >= Clean) {
+					if (start != -1 && address != start + segment.size()) {
+						segments.put(start, segment.toByteArray());
+						segment.reset();
+						start = -1;
+					}
+					if (start == -1)
+						start = address;
+					segment.write(page.data[i]);
+				}
+			}
+		}
+		if (start != -1)
+			segments.put(start, segment.toByteArray());
+		return segments;
+	}
+}
@@ -38,8 +38,10 @@ package io.calimero.gui;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.TreeSet;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.CTabFolder;
@@ -59,6 +61,11 @@ class ProgmodeTab extends BaseTabLayout
 {
 	private Thread task;
 
+	private static final Comparator<IndividualAddress> byAddress = Comparator.comparingInt(IndividualAddress::getRawAddress);
+	// accessed on UI thread only, same order as the table rows
+	private final List<IndividualAddress> shown = new ArrayList<>();
+	private boolean connected;
+
 	ProgmodeTab(final CTabFolder tf, final ConnectArguments args)
 	{
 		super(tf, "In Programming Mode ", "Connect to", false, args);
@@ -85,9 +92,16 @@ class ProgmodeTab extends BaseTabLayout
 
 		try {
 			final var poller = new ProgMode(args.toArray(new String[0])) {
+				private Set<IndividualAddress> previous;
+
 				@Override
 				protected void devicesInProgMode(final IndividualAddress... devices) {
-					Main.asyncExec(() -> updateDevices(devices));
+					final Set<IndividualAddress> current = Set.copyOf(Arrays.asList(devices));
+					// most poll results don't change anything, skip those
+					if (current.equals(previous))
+						return;
+					previous = current;
+					Main.asyncExec(() -> updateDevices(current));
 				}
 			};
 			task = Executor.execute(poller, "Programming mode poller");
@@ -97,15 +111,32 @@ class ProgmodeTab extends BaseTabLayout
 		}
 	}
 
-	private void updateDevices(final IndividualAddress... devices)
+	// only adds and removes the rows of changed devices, rows stay sorted by device address
+	private void updateDevices(final Set<IndividualAddress> devices)
 	{
 		if (list.isDisposed())
 			return;
-		list.removeAll();
-
-		for (final IndividualAddress addr : new TreeSet<>(Arrays.asList(devices)))
-			new TableItem(list, SWT.NONE).setText(addr.toString());
+		for (int i = shown.size() - 1; i >= 0; i--) {
+			final IndividualAddress device = shown.get(i);
+			if (!devices.contains(device)) {
+				shown.remove(i);
+				list.remove(i);
+				asyncAddLog("Device " + device + " left programming mode");
+			}
+		}
+		for (final IndividualAddress device : devices) {
+			final int index = Collections.binarySearch(shown, device, byAddress);
+			if (index < 0) {
+				final int insert = -index - 1;
+				shown.add(insert, device);
+				new TableItem(list, SWT.NONE, insert).setText(device.toString());
+				asyncAddLog("Device " + device + " is in programming mode");
+			}
+		}
 
-		setHeaderInfoPhase("Connected to");
+		if (!connected) {
+			connected = true;
+			setHeaderInfoPhase("Connected to");
+		}
 	}
 }
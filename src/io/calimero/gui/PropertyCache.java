@@ -0,0 +1,150 @@
+/*
+    Calimero GUI - A graphical user interface for the Calimero 3 tools
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.gui;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.calimero.mgmt.Description;
+
+/**
+ * Persists the interface object property descriptions and values shown by {@link PropertyEditorTab}. Entries are keyed
+ * by KNX serial number and version of a device, so that reopening the property editor does not require to scan all
+ * interface objects again.
+ */
+final class PropertyCache {
+	record Entry(Description description, String value, List<byte[]> raw) {}
+
+	private record Properties(Instant read, List<Entry> entries) {}
+
+	private static final CacheFile file = new CacheFile(".calimero-gui.properties", "property cache");
+
+	private static final PropertyCache instance = new PropertyCache();
+
+	private final Map<String, Properties> devices = new LinkedHashMap<>();
+
+	static PropertyCache instance() { return instance; }
+
+	private PropertyCache() {
+		load();
+	}
+
+	synchronized Optional<List<Entry>> get(final String key) {
+		return Optional.ofNullable(devices.get(key)).map(Properties::entries);
+	}
+
+	synchronized void put(final String key, final List<Entry> entries) {
+		devices.remove(key);
+		devices.put(key, new Properties(Instant.now(), List.copyOf(entries)));
+		save();
+	}
+
+	private void save() {
+		final Instant expired = CacheFile.expiry("properties.retentionDays");
+		devices.values().removeIf(p -> p.read().isBefore(expired));
+		final List<String[]> lines = new ArrayList<>();
+		for (final var device : devices.entrySet()) {
+			final String read = Long.toString(device.getValue().read().toEpochMilli());
+			for (final Entry e : device.getValue().entries())
+				lines.add(Stream.concat(Stream.of(device.getKey(), read), Stream.of(fields(e))).toArray(String[]::new));
+		}
+		file.save(lines);
+	}
+
+	// tab-separated fields, one line per property: key, time read, description fields, value, raw values
+	private synchronized void load() {
+		final Map<String, List<Entry>> entries = new LinkedHashMap<>();
+		final Map<String, Instant> read = new LinkedHashMap<>();
+		file.load(fields -> {
+			read.put(fields[0], Instant.ofEpochMilli(Long.parseLong(fields[1])));
+			entries.computeIfAbsent(fields[0], __ -> new ArrayList<>()).add(parse(fields, 2));
+		});
+		entries.forEach((key, list) -> devices.put(key, new Properties(read.get(key), List.copyOf(list))));
+	}
+
+	// a snapshot file uses the line format of the cache file without key and time read, one line per property
+	static void writeSnapshot(final Path file, final Collection<Entry> entries) throws IOException {
+		try (var w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			for (final Entry e : entries) {
+				w.write(CacheFile.line(fields(e)));
+				w.newLine();
+			}
+		}
+	}
+
+	static List<Entry> readSnapshot(final Path file) throws IOException {
+		try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+			return lines.filter(s -> !s.isBlank()).map(s -> parse(CacheFile.fields(s), 0)).toList();
+		}
+		catch (final UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	// fields: description fields, value, raw values
+	private static String[] fields(final Entry e) {
+		final Description d = e.description();
+		final String raw = e.raw().stream().map(HexFormat.of()::formatHex).reduce((a, b) -> a + "," + b).orElse("");
+		return new String[] { "" + d.objectIndex(), "" + d.objectType(), "" + d.objectInstance(), "" + d.pid(),
+			"" + d.propIndex(), "" + d.pdt(), "" + d.writeEnabled(), "" + d.currentElements(), "" + d.maxElements(),
+			"" + d.readLevel(), "" + d.writeLevel(), e.value(), raw };
+	}
+
+	private static Entry parse(final String[] fields, final int offset) {
+		int i = offset;
+		final var d = new Description(Integer.parseInt(fields[i++]), Integer.parseInt(fields[i++]),
+				Integer.parseInt(fields[i++]), Integer.parseInt(fields[i++]), Integer.parseInt(fields[i++]),
+				Integer.parseInt(fields[i++]), Boolean.parseBoolean(fields[i++]), Integer.parseInt(fields[i++]),
+				Integer.parseInt(fields[i++]), Integer.parseInt(fields[i++]), Integer.parseInt(fields[i++]));
+		final String value = fields[i++];
+		final List<byte[]> raw = Stream.of(fields[i].split(",")).filter(s -> !s.isEmpty())
+				.map(HexFormat.of()::parseHex).toList();
+		return new Entry(d, value, raw);
+	}
+}
@@ -39,20 +39,29 @@ package io.calimero.gui;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -84,6 +93,7 @@ import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.MessageBox;
@@ -162,12 +172,33 @@ class PropertyEditorTab extends BaseTabLayout
 	private final boolean remotePropertySvc;
 	private Thread toolThread;
 	private KNXNetworkLink toolLink;
-	private final List<String[]> commands = Collections.synchronizedList(new ArrayList<>());
+	private record Command(String[] args, CompletableFuture<Void> done) {
+		String key() { return String.join(" ", args); }
+	}
+
+	private final BlockingQueue<Command> commands = new LinkedBlockingQueue<>();
+	// queued, not yet executed get commands, used to coalesce identical reads
+	private final Map<String, Command> pendingGets = new ConcurrentHashMap<>();
 
 	private final List<Description> descriptions = new ArrayList<>();
+	// lookup of descriptions and table rows by key(objectIndex, pid)
+	private final Map<Integer, Integer> descriptionIndex = new ConcurrentHashMap<>();
+	// accessed on main thread only
+	private final Map<Integer, TableItem> rows = new HashMap<>();
 	private final Map<Description, String> values = new HashMap<>();
 	private final Map<Description, List<byte[]>> rawValues = new HashMap<>();
 	private int count;
+	// tree selection, updated on the main thread for use by the tool thread: an interface object index,
+	// or one of the constants below
+	private volatile int selectedObject = NoSelection;
+	private static final int NoSelection = -1;
+	private static final int PropertySelected = -2;
+	private volatile String cacheKey;
+	// read all properties from the device, even if cached
+	private volatile boolean bypassCache;
+	// general PIDs which identify an object or device, their values don't change without changing the cache key:
+	// object type, object name, serial number, manufacturer, program version, order info, and version
+	private static final Set<Integer> staticPids = Set.of(1, 2, 11, 12, 13, 15, 25);
 
 	private static final String showTree = "Use tree view for interface objects and properties";
 	private static final String hideTree = "Use table view for interface objects and properties";
@@ -302,10 +333,43 @@ class PropertyEditorTab extends BaseTabLayout
 		data.width = 150;
 		spacer.setLayoutData(data);
 
+		final Button refresh = new Button(editArea, SWT.NONE);
+		refresh.setText("Refresh all");
+		refresh.setToolTipText("Read all property descriptions and values from the device, bypassing the property cache");
+		refresh.addSelectionListener(adapt(e -> refreshAll()));
+
 		final Button restart = new Button(editArea, SWT.NONE);
 		restart.setText("Restart KNX device");
 		restart.addSelectionListener(adapt(e -> restart()));
 
+		spacer = new Label(editArea, SWT.SEPARATOR);
+		spacer.setLayoutData(new RowData(data.width, data.height));
+
+		final Button snapshot = new Button(editArea, SWT.NONE);
+		snapshot.setText("Save snapshot...");
+		snapshot.setToolTipText("Save descriptions and values of all properties to a file");
+		snapshot.addSelectionListener(adapt(e -> openSnapshotFile(SWT.SAVE, "Save property snapshot")
+				.ifPresent(this::saveSnapshot)));
+
+		final Button compare = new Button(editArea, SWT.NONE);
+		compare.setText("Compare with snapshot...");
+		compare.setToolTipText("Show properties whose values differ from a saved snapshot");
+		compare.addSelectionListener(adapt(e -> openSnapshotFile(SWT.OPEN, "Open property snapshot")
+				.ifPresent(file -> compareSnapshot(file, false))));
+
+		final Button compareSnapshots = new Button(editArea, SWT.NONE);
+		compareSnapshots.setText("Compare snapshots...");
+		compareSnapshots.setToolTipText("Show properties whose values differ between two saved snapshots");
+		compareSnapshots.addSelectionListener(adapt(e -> openSnapshotFile(SWT.OPEN, "Open first property snapshot")
+				.ifPresent(first -> openSnapshotFile(SWT.OPEN, "Open second property snapshot")
+						.ifPresent(second -> compareSnapshots(first, second)))));
+
+		final Button restore = new Button(editArea, SWT.NONE);
+		restore.setText("Restore snapshot...");
+		restore.setToolTipText("Write all write-enabled properties whose values differ from a saved snapshot");
+		restore.addSelectionListener(adapt(e -> openSnapshotFile(SWT.OPEN, "Open property snapshot")
+				.ifPresent(file -> compareSnapshot(file, true))));
+
 		for (final Control c : editArea.getChildren())
 			c.setEnabled(false);
 	}
@@ -384,6 +448,7 @@ class PropertyEditorTab extends BaseTabLayout
 		final TreeItem item = (TreeItem) e.item;
 		if (item == null)
 			return;
+		selectedObject = item.getParentItem() == null ? tree.indexOf(item) : PropertySelected;
 		if (item.getParentItem() == null)
 			showInterfaceObject(tree.indexOf(item));
 		else
@@ -556,6 +621,7 @@ class PropertyEditorTab extends BaseTabLayout
 		hidePropertyPage();
 		resetTable();
 		tree.deselectAll();
+		selectedObject = NoSelection;
 		sashForm.setMaximizedControl(list);
 		for (int i = 0; i < descriptions.size(); i++) {
 			addRow(i);
@@ -578,7 +644,9 @@ class PropertyEditorTab extends BaseTabLayout
 
 	private void addInterfaceObjectToTree(final int objectIndex, final int objectType)
 	{
-		Main.syncExec(() -> {
+		Main.asyncExec(() -> {
+			if (tree.isDisposed())
+				return;
 			final TreeItem item = new TreeItem(tree, SWT.NONE);
 			item.setText(objectIndex + " - " + PropertyClient.getObjectTypeName(objectType) + " (Object Type " + objectType + ")");
 			item.setData(ObjectIndex, objectIndex);
@@ -587,7 +655,10 @@ class PropertyEditorTab extends BaseTabLayout
 
 	private void addPropertyToTree(final int objectType, final int pid)
 	{
-		Main.syncExec(() -> {
+		// posted after the interface object, so the last root item is the object of this property
+		Main.asyncExec(() -> {
+			if (tree.isDisposed())
+				return;
 			final TreeItem root = tree.getItem(tree.getItemCount() - 1);
 			final TreeItem item = new TreeItem(root, SWT.NONE);
 			final String name = "PID " + pid;
@@ -602,13 +673,8 @@ class PropertyEditorTab extends BaseTabLayout
 		final Description d = descriptions.get(index);
 
 		// if user selected an interface object in the tree view, only add row if it belongs to that particular object
-		final AtomicBoolean differentObject = new AtomicBoolean();
-		Main.syncExec(() -> {
-			final TreeItem[] selection = tree.getSelection();
-			if (selection.length > 0 && tree.indexOf(selection[0]) != d.objectIndex())
-				differentObject.set(true);
-		});
-		if (differentObject.get())
+		final int selected = selectedObject;
+		if (selected != NoSelection && selected != d.objectIndex())
 			return;
 		if (isNewInterfaceObject(index)) {
 			final String[] keys = new String[] { ObjectHeader, ObjectIndex, ObjectType, };
@@ -642,6 +708,7 @@ class PropertyEditorTab extends BaseTabLayout
 	{
 		list.setVisible(true);
 		list.removeAll();
+		rows.clear();
 		count = 0;
 	}
 
@@ -675,13 +742,177 @@ class PropertyEditorTab extends BaseTabLayout
 				return;
 			}
 		}
-		runCommand("set", objectIndex, pid, "1", elements, data);
-		// update our description to reflect the valid number of elements
-		runCommand("desc", objectIndex, pid);
-		// read maximum number of values back (number of elements might have changed)
-		// TODO we should wait until description got updated by "desc" command
-		final int readBack = Math.max(elements, findDescription(objectIndex, pid).currentElements());
-		runCommand("get", objectIndex, pid, "1", readBack);
+		runCommand("set", objectIndex, pid, "1", elements, data)
+				// update our description to reflect the valid number of elements
+				.thenCompose(__ -> enqueue("desc", objectIndex, pid))
+				// read maximum number of values back (number of elements might have changed)
+				.thenCompose(__ -> enqueue("get", objectIndex, pid, "1",
+						Math.max(elements, findDescription(objectIndex, pid).currentElements())))
+				.exceptionally(t -> {
+					asyncAddLog("Write of PID " + pid + " (object index " + objectIndex + ") not completed: " + t);
+					return null;
+				});
+	}
+
+	private Optional<Path> openSnapshotFile(final int style, final String title)
+	{
+		final FileDialog dlg = new FileDialog(Main.shell, style);
+		dlg.setText(title);
+		dlg.setFilterExtensions(new String[] { "*.properties.txt", "*.*" });
+		if (style == SWT.SAVE) {
+			dlg.setOverwrite(true);
+			dlg.setFileName(("knx-properties_" + connect.id() + ".properties.txt").replace(':', '.'));
+		}
+		return Optional.ofNullable(dlg.open()).map(Path::of);
+	}
+
+	private Map<Integer, PropertyCache.Entry> currentProperties()
+	{
+		final Map<Integer, PropertyCache.Entry> current = new LinkedHashMap<>();
+		for (final Description d : List.copyOf(descriptions))
+			current.put(key(d.objectIndex(), d.pid()),
+					new PropertyCache.Entry(d, values.getOrDefault(d, ""), rawValues.getOrDefault(d, List.of())));
+		return current;
+	}
+
+	private void saveSnapshot(final Path file)
+	{
+		try {
+			final var entries = currentProperties().values();
+			PropertyCache.writeSnapshot(file, entries);
+			asyncAddLog("Saved snapshot of " + entries.size() + " properties to " + file);
+		}
+		catch (final IOException e) {
+			asyncAddLog("Saving snapshot to " + file + " failed: " + e.getMessage());
+		}
+	}
+
+	private Optional<Map<Integer, PropertyCache.Entry>> readSnapshot(final Path file)
+	{
+		try {
+			final Map<Integer, PropertyCache.Entry> snapshot = new LinkedHashMap<>();
+			for (final var entry : PropertyCache.readSnapshot(file))
+				snapshot.put(key(entry.description().objectIndex(), entry.description().pid()), entry);
+			return Optional.of(snapshot);
+		}
+		catch (IOException | RuntimeException e) {
+			asyncAddLog("Reading snapshot " + file + " failed: " + e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private void compareSnapshots(final Path first, final Path second)
+	{
+		final var a = readSnapshot(first);
+		final var b = a.isPresent() ? readSnapshot(second) : Optional.<Map<Integer, PropertyCache.Entry>>empty();
+		if (b.isEmpty())
+			return;
+		final Set<Integer> keys = new LinkedHashSet<>(a.get().keySet());
+		keys.addAll(b.get().keySet());
+		int differing = 0;
+		for (final int key : keys) {
+			final var x = a.get().get(key);
+			final var y = b.get().get(key);
+			final Description d = (x != null ? x : y).description();
+			final String property = "Object index " + d.objectIndex() + " PID " + d.pid() + ": ";
+			if (x == null || y == null || !Arrays.equals(concat(x.raw()), concat(y.raw()))) {
+				differing++;
+				asyncAddLog(property + (x != null ? x.value() : "(not available)") + " -> "
+						+ (y != null ? y.value() : "(not available)"));
+			}
+		}
+		asyncAddLog("Compared " + keys.size() + " properties of snapshot " + first + " with snapshot " + second + ": "
+				+ differing + " differ");
+	}
+
+	// compares the properties of a snapshot with the current property values, and optionally restores the
+	// differing ones if write-enabled
+	private void compareSnapshot(final Path file, final boolean restore)
+	{
+		final var read = readSnapshot(file);
+		if (read.isEmpty())
+			return;
+		final Map<Integer, PropertyCache.Entry> snapshot = read.get();
+
+		final Map<Integer, PropertyCache.Entry> current = currentProperties();
+		final List<PropertyCache.Entry> differing = new ArrayList<>();
+		int missing = 0;
+		for (final var entry : snapshot.entrySet()) {
+			final var live = current.get(entry.getKey());
+			final Description d = entry.getValue().description();
+			if (live == null) {
+				missing++;
+				asyncAddLog("Object index " + d.objectIndex() + " PID " + d.pid() + ": not available on device");
+			}
+			else if (!Arrays.equals(concat(live.raw()), concat(entry.getValue().raw()))) {
+				differing.add(entry.getValue());
+				asyncAddLog("Object index " + d.objectIndex() + " PID " + d.pid() + ": " + live.value()
+						+ " (snapshot " + entry.getValue().value() + ")");
+			}
+		}
+		asyncAddLog("Compared " + snapshot.size() + " properties with snapshot " + file + ": " + differing.size()
+				+ " differ, " + missing + " not available");
+		for (final var entry : differing)
+			find(entry.description().objectIndex(), entry.description().pid())
+					.ifPresent(item -> item.setForeground(Main.display.getSystemColor(SWT.COLOR_DARK_RED)));
+
+		if (!restore)
+			return;
+		final List<PropertyCache.Entry> writable = new ArrayList<>(differing.stream()
+				.filter(e -> !remotePropertySvc || current.get(key(e.description().objectIndex(),
+						e.description().pid())).description().writeEnabled())
+				.toList());
+		// writing the identity of the snapshot device to another device, e.g., when cloning, requires confirmation
+		final List<PropertyCache.Entry> identity = writable.stream().filter(e -> isIdentity(e.description())).toList();
+		if (!identity.isEmpty()) {
+			writable.removeAll(identity);
+			final String names = identity.stream().map(e -> "Object index " + e.description().objectIndex() + " PID "
+					+ e.description().pid() + " (" + e.value() + ")").collect(joining("\n"));
+			if (askUser("Restore snapshot", "The snapshot differs in " + identity.size()
+					+ " properties identifying a device:\n" + names + "\n\nAlso write these to "
+					+ connect.friendlyName() + "?") == SWT.YES)
+				writable.addAll(identity);
+		}
+		if (writable.isEmpty() || askUser("Restore snapshot", "Write " + writable.size()
+				+ " properties to " + connect.friendlyName() + "?") != SWT.YES)
+			return;
+
+		final List<CompletableFuture<Void>> writes = new ArrayList<>();
+		final var failed = new AtomicInteger();
+		for (final var entry : writable) {
+			final Description d = entry.description();
+			final String data = "0x" + HexFormat.of().formatHex(concat(entry.raw()));
+			writes.add(runCommand("set", d.objectIndex(), d.pid(), "1", entry.raw().size(), data)
+					.thenCompose(__ -> enqueue("get", d.objectIndex(), d.pid(), "1", entry.raw().size()))
+					.whenComplete((__, t) -> {
+						if (t != null) {
+							failed.incrementAndGet();
+							asyncAddLog("Restore of object index " + d.objectIndex() + " PID " + d.pid()
+									+ " failed: " + t.getMessage());
+						}
+					}));
+		}
+		CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0])).whenComplete((__, t) -> asyncAddLog(
+				"Restore of " + writes.size() + " properties completed"
+						+ (failed.get() > 0 ? ", " + failed.get() + " failed" : "")));
+	}
+
+	// properties which identify a device: serial number, individual address, and domain address of the device
+	// object; individual addresses, IP address, MAC address, and friendly name of the KNXnet/IP parameter object
+	private static boolean isIdentity(final Description d)
+	{
+		return switch (d.objectType()) {
+			case 0 -> Set.of(11, 57, 58, 70).contains(d.pid());
+			case 11 -> Set.of(52, 53, 60, 64, 76).contains(d.pid());
+			default -> false;
+		};
+	}
+
+	private static byte[] concat(final List<byte[]> elements)
+	{
+		final var out = new ByteArrayOutputStream();
+		elements.forEach(out::writeBytes);
+		return out.toByteArray();
 	}
 
 	private static Optional<Integer> dptSize(DptId dpt) {
@@ -878,25 +1109,31 @@ class PropertyEditorTab extends BaseTabLayout
 		return Optional.ofNullable(p);
 	}
 
+	// key of the description and row index, an interface object has at most 256 PIDs
+	private static int key(final int objectIndex, final int pid)
+	{
+		return objectIndex << 16 | pid;
+	}
+
 	private Description findDescription(final int objectIndex, final int pid)
 	{
-		for (final Description d : descriptions) {
-			if (d.objectIndex() == objectIndex && d.pid() == pid)
-				return d;
-		}
-		return null;
+		final Integer i = descriptionIndex.get(key(objectIndex, pid));
+		return i != null ? descriptions.get(i) : null;
+	}
+
+	private void addDescription(final Description d)
+	{
+		descriptions.add(d);
+		descriptionIndex.put(key(d.objectIndex(), d.pid()), descriptions.size() - 1);
 	}
 
 	private boolean replaceDescription(final Description update)
 	{
-		for (int i = 0; i < descriptions.size(); i++) {
-			final Description d = descriptions.get(i);
-			if (d.objectIndex() == update.objectIndex() && d.pid() == update.pid()) {
-				descriptions.set(i, update);
-				return true;
-			}
-		}
-		return false;
+		final Integer i = descriptionIndex.get(key(update.objectIndex(), update.pid()));
+		if (i == null)
+			return false;
+		descriptions.set(i, update);
+		return true;
 	}
 
 	private void authorize(final String authCode)
@@ -963,21 +1200,62 @@ class PropertyEditorTab extends BaseTabLayout
 		return id;
 	}
 
-	private void runCommand(final String... cmd)
+	// stops the property tool and scans all properties again without using the property cache
+	private void refreshAll()
+	{
+		for (final Control c : editArea.getChildren())
+			c.setEnabled(false);
+		final Thread running = toolThread;
+		Executor.execute(() -> {
+			running.interrupt();
+			try {
+				running.join();
+			}
+			catch (final InterruptedException e) {
+				return;
+			}
+			Main.asyncExec(() -> {
+				if (editArea.isDisposed())
+					return;
+				asyncAddLog("Refresh all properties, bypassing the property cache");
+				bypassCache = true;
+				runProperties(Arrays.asList("scan", "all"), true);
+				cancel.setEnabled(true);
+			});
+		}, "Calimero property refresh");
+	}
+
+	// assumes we're running on the main thread, restarts the property tool if necessary
+	private CompletableFuture<Void> runCommand(final Object... cmd)
 	{
 		if (!toolThread.isAlive()) {
 			runProperties(Collections.emptyList(), false);
 			cancel.setEnabled(true);
 		}
-		synchronized (commands) {
-			commands.add(cmd);
-			commands.notify();
+		return enqueue(cmd);
+	}
+
+	// returns a future completing after the command got executed by the property tool, or failing if the execution
+	// takes longer than properties.commandTimeout; an identical get command which is still queued is not added again
+	private CompletableFuture<Void> enqueue(final Object... cmd)
+	{
+		final var command = new Command(Stream.of(cmd).map(Object::toString).toArray(String[]::new),
+				new CompletableFuture<>());
+		if ("get".equals(command.args()[0])) {
+			final Command pending = pendingGets.putIfAbsent(command.key(), command);
+			if (pending != null && !pending.done().isDone())
+				return pending.done();
+			pendingGets.put(command.key(), command);
 		}
+		commands.add(command);
+		return command.done();
 	}
 
-	private void runCommand(final Object... cmd)
+	private void cancelPendingCommands()
 	{
-		runCommand(Stream.of(cmd).map(Object::toString).toArray(String[]::new));
+		for (Command c; (c = commands.poll()) != null;)
+			c.done().cancel(false);
+		pendingGets.clear();
 	}
 
 	private void runProperties(final List<String> cmd, final boolean init)
@@ -1017,12 +1295,44 @@ class PropertyEditorTab extends BaseTabLayout
 							pc.addDefinitions(definitions);
 							map.putAll(pc.getDefinitions());
 
-							super.runCommand(cmd);
-
-							for (final Description d : descriptions) {
+							final String key = readCacheKey(pc);
+							final boolean useCache = !bypassCache;
+							bypassCache = false;
+							final var cached = key.isEmpty() || !useCache ? Optional.<List<PropertyCache.Entry>>empty()
+									: PropertyCache.instance().get(key);
+							if (cached.isPresent()) {
+								asyncAddLog("Show cached properties of device " + key + ", refresh values"
+										+ (remotePropertySvc ? " except device identification" : "")
+										+ " (use Refresh all to bypass the cache)");
+								for (final var entry : cached.get())
+									onDescription(entry.description());
+								for (final var entry : cached.get()) {
+									final Description d = entry.description();
+									if (!entry.raw().isEmpty())
+										onPropertyValue(d.objectIndex(), d.pid(), entry.value(), entry.raw());
+								}
+							}
+							else
+								super.runCommand(cmd);
+
+							// properties without any elements have no value, don't spend a request on those;
+							// with cached properties, only values identifying the device are not read again
+							int empty = 0;
+							for (final Description d : List.copyOf(descriptions)) {
+								if (cached.isPresent() && remotePropertySvc && !d.writeEnabled()
+										&& staticPids.contains(d.pid()))
+									continue;
+								if (d.currentElements() == 0) {
+									empty++;
+									continue;
+								}
 								super.runCommand("get", "" + d.objectIndex(), "" + d.pid(), "1",
 										"" + d.currentElements());
 							}
+							if (empty > 0)
+								asyncAddLog("Skipped reading " + empty + " properties with 0 elements");
+							cacheKey = key;
+							updateCache();
 							Main.asyncExec(() -> {
 								if (editArea.isDisposed())
 									return;
@@ -1032,18 +1342,27 @@ class PropertyEditorTab extends BaseTabLayout
 							});
 						}
 						while (true) {
-							final String[] command;
-							synchronized (commands) {
-								while (commands.isEmpty())
-									commands.wait();
-								command = commands.removeFirst();
-							}
-							asyncAddLog(String.join(" ", command));
+							final Command command = commands.take();
+							pendingGets.remove(command.key(), command);
+							// skip commands canceled while queued
+							if (command.done().isDone())
+								continue;
+							asyncAddLog(command.key());
+							// the timeout only covers the execution, a long queue does not let commands fail
+							final int timeout = Config.get("properties.commandTimeout", 30);
+							command.done().orTimeout(timeout, TimeUnit.SECONDS);
 							try {
-								super.runCommand(command);
+								super.runCommand(command.args());
+								if (!command.done().complete(null))
+									asyncAddLog(command.key() + " completed after the timeout of " + timeout + " s");
 							}
 							catch (final RuntimeException e) {
 								asyncAddLog(e.toString());
+								command.done().completeExceptionally(e);
+							}
+							catch (final InterruptedException e) {
+								command.done().cancel(false);
+								throw e;
 							}
 						}
 					}
@@ -1060,7 +1379,7 @@ class PropertyEditorTab extends BaseTabLayout
 							});
 							return;
 						}
-						descriptions.add(d);
+						addDescription(d);
 						addRow(descriptions.size() - 1);
 						if (isNewInterfaceObject(descriptions.size() - 1))
 							addInterfaceObjectToTree(d.objectIndex(), d.objectType());
@@ -1092,6 +1411,8 @@ class PropertyEditorTab extends BaseTabLayout
 						if (thrown != null) {
 							asyncAddLog(thrown);
 						}
+						cancelPendingCommands();
+						updateCache();
 						Main.asyncExec(() -> {
 							if (cancel.isDisposed())
 								return;
@@ -1109,6 +1430,57 @@ class PropertyEditorTab extends BaseTabLayout
 		toolThread = Executor.execute(task, "Calimero property editor");
 	}
 
+	// identifies the device by its serial number and firmware version (device object PIDs 11 and 25), the version
+	// and load state of its application program (PIDs 13 and 5 of the application program object), and the access
+	// mode, because local device management does not report write access; returns an empty string if the device
+	// does not provide a serial number
+	private String readCacheKey(final PropertyClient pc) throws InterruptedException
+	{
+		final String sn;
+		try {
+			sn = HexFormat.of().formatHex(pc.getProperty(0, 11, 1, 1));
+		}
+		catch (final KNXException e) {
+			asyncAddLog("Device serial number not available, property cache not used (" + e.getMessage() + ")");
+			return "";
+		}
+		final String firmware = optionalProperty(pc, 0, 25);
+		String application = "";
+		for (int oi = 1; oi < 32; oi++) {
+			final String type = optionalProperty(pc, oi, 1);
+			if (type.isEmpty())
+				break;
+			if (Integer.parseInt(type, 16) == 3) {
+				application = optionalProperty(pc, oi, 13) + "-" + optionalProperty(pc, oi, 5);
+				break;
+			}
+		}
+		return String.join("/", sn, remotePropertySvc ? "remote" : "local", firmware, application);
+	}
+
+	private static String optionalProperty(final PropertyClient pc, final int oi, final int pid)
+		throws InterruptedException
+	{
+		try {
+			return HexFormat.of().formatHex(pc.getProperty(oi, pid, 1, 1));
+		}
+		catch (final KNXException | RuntimeException e) {
+			return "";
+		}
+	}
+
+	// only the complete set of properties is cached, i.e., after init has finished; called on the tool thread
+	private void updateCache()
+	{
+		final String key = cacheKey;
+		if (key == null || key.isEmpty())
+			return;
+		final List<PropertyCache.Entry> entries = new ArrayList<>();
+		for (final Description d : descriptions)
+			entries.add(new PropertyCache.Entry(d, values.getOrDefault(d, ""), rawValues.getOrDefault(d, List.of())));
+		PropertyCache.instance().put(key, entries);
+	}
+
 	// phase: 0=connecting, 1=reading, 2=completed, x=unknown
 	private static String statusInfo(final int phase) {
 		return switch (phase) {
@@ -1122,11 +1494,17 @@ class PropertyEditorTab extends BaseTabLayout
 	// assumes we're running on the main thread
 	private Optional<TableItem> find(final int oi, final int pid)
 	{
-		for (final TableItem item : list.getItems()) {
-			if (item.getData(ObjectIndex).equals("" + oi) && item.getText(Columns.Pid.ordinal()).equals("" + pid))
-				return Optional.of(item);
-		}
-		return Optional.empty();
+		return Optional.ofNullable(rows.get(key(oi, pid))).filter(item -> !item.isDisposed());
+	}
+
+	@Override
+	protected void onListItemAdded(final TableItem item)
+	{
+		if (item.getData(ObjectHeader) != null)
+			return;
+		final int oi = Integer.parseInt((String) item.getData(ObjectIndex));
+		final int pid = Integer.parseInt(item.getText(Columns.Pid.ordinal()));
+		rows.put(key(oi, pid), item);
 	}
 
 	private SelectionListener adapt(final Consumer<SelectionEvent> c)
@@ -36,14 +36,23 @@
 
 package io.calimero.gui;
 
+import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.CTabFolder;
 import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.TableColumn;
@@ -52,6 +61,7 @@ import org.eclipse.swt.widgets.TableItem;
 import io.calimero.DeviceDescriptor.DD0;
 import io.calimero.IndividualAddress;
 import io.calimero.KNXIllegalArgumentException;
+import io.calimero.gui.ScanResults.Line;
 import io.calimero.internal.Executor;
 import io.calimero.tools.ScanDevices;
 
@@ -61,11 +71,23 @@ import io.calimero.tools.ScanDevices;
 class ScanDevicesTab extends BaseTabLayout
 {
 	private Button cancel;
-	private Thread worker;
+	private Button rescan;
+	private Button resume;
+	private Button readAll;
+	private final String interfaceKey;
+	private final String scanRange;
+	private final List<Thread> workers = new CopyOnWriteArrayList<>();
+	private volatile boolean canceled;
+	// number of lines whose devices are shown from a previous scan instead of being scanned
+	private int resumed;
+	// accessed on UI thread only
+	private final Map<IndividualAddress, TableItem> rows = new HashMap<>();
 
 	ScanDevicesTab(final CTabFolder tf, final ConnectArguments args)
 	{
 		super(tf, "Scan subnet " + args.friendlyName(), "Scanning subnet", false, args);
+		interfaceKey = DiscoveryCache.key(args.access());
+		scanRange = args.remoteKnxAddress;
 
 		final TableColumn cnt = new TableColumn(list, SWT.RIGHT);
 		cnt.setText("#");
@@ -76,6 +98,9 @@ class ScanDevicesTab extends BaseTabLayout
 		final TableColumn dd = new TableColumn(list, SWT.RIGHT);
 		dd.setText("Device descriptor");
 		dd.setWidth(130);
+		final TableColumn lastScan = new TableColumn(list, SWT.LEFT);
+		lastScan.setText("Previous scan");
+		lastScan.setWidth(150);
 
 		list.addSelectionListener(defaultSelected(e -> {
 				final TableItem row = list.getSelection()[0];
@@ -85,7 +110,10 @@ class ScanDevicesTab extends BaseTabLayout
 				new DeviceInfoTab(tf, connect);
 			}));
 
-		scanDevices();
+		final long completed = scanRanges(scanRange).stream().filter(this::completedBefore).count();
+		if (completed > 0)
+			asyncAddLog("A previous scan completed " + completed + " lines, use Resume to scan only the other lines");
+		scanDevices(false);
 	}
 
 	@Override
@@ -95,87 +123,260 @@ class ScanDevicesTab extends BaseTabLayout
 	}
 
 	private void addCancelButton() {
-		((GridLayout) top.getLayout()).numColumns = 3;
+		((GridLayout) top.getLayout()).numColumns = 6;
 		cancel = new Button(top, SWT.NONE);
 		cancel.setFont(Main.font);
 		cancel.setText("Cancel");
 		cancel.addSelectionListener(new SelectionAdapter() {
 			@Override
 			public void widgetSelected(final SelectionEvent e) {
-				if (worker != null) {
-					worker.interrupt();
+				if (!workers.isEmpty()) {
+					canceled = true;
+					workers.forEach(Thread::interrupt);
 					asyncAddLog("Canceled device scan");
 				}
 			}
 		});
+
+		rescan = new Button(top, SWT.NONE);
+		rescan.setFont(Main.font);
+		rescan.setText("Rescan");
+		rescan.setToolTipText("Scan all lines again");
+		rescan.setEnabled(false);
+		rescan.addSelectionListener(selected(e -> restart(false)));
+
+		resume = new Button(top, SWT.NONE);
+		resume.setFont(Main.font);
+		resume.setText("Resume");
+		resume.setToolTipText("Scan only lines not completed in a previous scan, devices of completed lines are shown "
+				+ "from the previous scan");
+		resume.setEnabled(false);
+		resume.addSelectionListener(selected(e -> restart(true)));
+
+		readAll = new Button(top, SWT.NONE);
+		readAll.setFont(Main.font);
+		readAll.setText("Read all device info");
+		readAll.setToolTipText("Read the device information of all found devices");
+		readAll.setEnabled(false);
+		readAll.addSelectionListener(selected(e -> {
+			final List<IndividualAddress> devices = new ArrayList<>(rows.keySet());
+			devices.sort(Comparator.comparingInt(IndividualAddress::getRawAddress));
+			asyncAddLog("Read device information of " + devices.size() + " KNX devices");
+			new BatchDeviceInfoTab(getTabFolder(), connect, devices);
+		}));
 	}
 
 	@Override
 	protected void onDispose(final DisposeEvent e) {
-		if (worker != null)
-			worker.interrupt();
+		workers.forEach(Thread::interrupt);
 	}
 
-	private void scanDevices()
+	private void restart(final boolean resumeScan) {
+		rescan.setEnabled(false);
+		resume.setEnabled(false);
+		readAll.setEnabled(false);
+		cancel.setEnabled(true);
+		list.removeAll();
+		rows.clear();
+		workers.clear();
+		canceled = false;
+		setHeaderInfo(connectInfo("Scanning subnet", false));
+		scanDevices(resumeScan);
+	}
+
+	// a normal scan scans all lines; when resuming, lines completed in a previous scan are not scanned again, their
+	// devices are shown from the stored results, marked with the time of that scan
+	private void scanDevices(final boolean resumeScan)
 	{
+		// opening device info of a found device changes the remote address
+		connect.remoteKnxAddress = scanRange;
 		final List<String> args = new ArrayList<>(connect.getArgs(false));
 		asyncAddLog("Using command line: " + String.join(" ", args));
 
+		resumed = 0;
+		final List<String> ranges = new ArrayList<>();
+		for (final String range : scanRanges(scanRange)) {
+			final Optional<Line> previous = resumeScan && completedBefore(range)
+					? ScanResults.instance().line(interfaceKey, range) : Optional.empty();
+			if (previous.isEmpty()) {
+				ranges.add(range);
+				continue;
+			}
+			final Line line = previous.get();
+			resumed++;
+			asyncAddLog("Line " + range + " was scanned " + CacheFile.timestampFormat.format(line.lastScan())
+					+ ", show its " + line.devices().size() + " devices from that scan (use Rescan to scan again)");
+			Main.asyncExec(() -> line.devices().forEach((device, dd0) -> addDevice(device, dd0, line.lastScan())));
+		}
+		if (ranges.isEmpty()) {
+			onScanCompleted();
+			return;
+		}
+
+		final int connections = Math.min(ranges.size(), connect.maxConcurrentConnections("scan.maxConnections"));
+		if (connections > 1)
+			asyncAddLog("Scan " + ranges.size() + " lines using up to " + connections + " connections in parallel");
+
+		// each worker uses its own connection and scans lines until none is left; pending and the number of active
+		// workers are guarded by pending, so a line put back is always taken by a worker still active
+		final Queue<String> pending = new ArrayDeque<>(ranges);
+		final int[] active = { connections };
+		for (int i = 0; i < connections; i++) {
+			workers.add(Executor.execute(() -> {
+				boolean connected = false;
+				while (true) {
+					String range = null;
+					synchronized (pending) {
+						if (!canceled && !Thread.currentThread().isInterrupted())
+							range = pending.poll();
+						if (range == null && --active[0] > 0)
+							return;
+					}
+					if (range == null)
+						break;
+
+					final Exception thrown = scan(args, range);
+					if (thrown == null) {
+						connected = true;
+						continue;
+					}
+					// interfaces often provide a single tunneling connection only: a worker which could not connect
+					// leaves its line to the other workers, the last worker reports the error
+					if (!connected) {
+						synchronized (pending) {
+							if (active[0] > 1) {
+								pending.add(range);
+								active[0]--;
+								return;
+							}
+						}
+					}
+					scanFailed(range, thrown);
+				}
+				onScanCompleted();
+			}, "Calimero device scan"));
+		}
+	}
+
+	// an area scan is split into its lines, which can be scanned in parallel
+	private static List<String> scanRanges(final String remoteKnxAddress)
+	{
+		if (remoteKnxAddress.isEmpty() || remoteKnxAddress.split("\\.").length != 1)
+			return List.of(remoteKnxAddress);
+		final List<String> lines = new ArrayList<>();
+		for (int line = 0; line < 16; line++)
+			lines.add(remoteKnxAddress + "." + line);
+		return lines;
+	}
+
+	// only scans of complete lines are persisted, a scan of a single device is not worth resuming
+	private static boolean persisted(final String range)
+	{
+		return range.split("\\.").length == 2;
+	}
+
+	private boolean completedBefore(final String range)
+	{
+		return persisted(range) && ScanResults.instance().line(interfaceKey, range).map(Line::completed).orElse(false);
+	}
+
+	// returns the exception the scan of range failed with, or null
+	private Exception scan(final List<String> args, final String range)
+	{
+		final boolean persist = persisted(range);
+		if (persist)
+			ScanResults.instance().started(interfaceKey, range);
+		final List<String> rangeArgs = new ArrayList<>(args);
+		if (!range.equals(scanRange))
+			rangeArgs.set(rangeArgs.size() - 1, range);
+		final Exception[] failed = new Exception[1];
 		try {
-			final ScanDevices config = new ScanDevices(args.toArray(new String[0])) {
+			final ScanDevices tool = new ScanDevices(rangeArgs.toArray(new String[0])) {
 				@Override
 				protected void onDeviceFound(final IndividualAddress device)
 				{
-					Main.asyncExec(() -> {
-						if (list.isDisposed())
-							return;
-						list.setToolTipText("Select an address to read KNX device information");
-						final TableItem i = new TableItem(list, SWT.NONE);
-						i.setText(new String[] { "" + list.getItemCount(), device.toString() });
-					});
+					onDeviceFound(device, "");
 				}
 
 				@Override
 				protected void onDeviceFound(final IndividualAddress device, final DD0 dd0) {
-					Main.asyncExec(() -> {
-						if (list.isDisposed())
-							return;
-						for (final var item : list.getItems()) {
-							if (device.toString().equals(item.getText(1))) {
-								item.setText(2, dd0.toString());
-								return;
-							}
-						}
+					onDeviceFound(device, dd0.toString());
+				}
 
-						final TableItem i = new TableItem(list, SWT.NONE);
-						i.setText(new String[] { "" + list.getItemCount(), device.toString(), dd0.toString() });
-					});
+				private void onDeviceFound(final IndividualAddress device, final String dd0) {
+					if (persist)
+						ScanResults.instance().deviceFound(interfaceKey, range, device, dd0);
+					Main.asyncExec(() -> addDevice(device, dd0, null));
 				}
 
 				@Override
 				protected void onCompletion(final Exception thrown, final boolean canceled) {
-					Main.asyncExec(() -> {
-						if (list.isDisposed())
-							return;
-
-						if (thrown != null) {
-							final TableItem i = new TableItem(list, SWT.NONE);
-							i.setText("Error: " + thrown.getMessage());
-
-							asyncAddLog(thrown);
-						}
-
-						final String status = canceled ? "canceled" : "completed";
-						setHeaderInfo(connectInfo("Device scan " + status + " for", false)
-								+ " (select an address to read KNX device info)");
-						cancel.setEnabled(false);
-					});
+					if (canceled)
+						ScanDevicesTab.this.canceled = true;
+					if (persist) {
+						if (thrown == null && !canceled && !Thread.currentThread().isInterrupted())
+							ScanResults.instance().completed(interfaceKey, range);
+						else
+							ScanResults.instance().save();
+					}
+					failed[0] = thrown;
 				}
 			};
-			worker = Executor.execute(config, "Calimero device scan");
+			tool.run();
 		}
 		catch (final KNXIllegalArgumentException e) {
 			asyncAddLog("error: " + e.getMessage());
 		}
+		return failed[0];
+	}
+
+	private void scanFailed(final String range, final Exception thrown)
+	{
+		asyncAddLog(thrown);
+		Main.asyncExec(() -> {
+			if (list.isDisposed())
+				return;
+			final TableItem i = new TableItem(list, SWT.NONE);
+			i.setText("Error" + (range.equals(scanRange) ? "" : " (line " + range + ")") + ": " + thrown.getMessage());
+		});
+	}
+
+	// lastScan is the time of the previous scan a device is shown from, or null for a device found by this scan
+	private void addDevice(final IndividualAddress device, final String dd0, final Instant lastScan)
+	{
+		if (list.isDisposed())
+			return;
+		final String previousScan = lastScan != null ? CacheFile.timestampFormat.format(lastScan) : "";
+		final Color color = lastScan != null ? Main.display.getSystemColor(SWT.COLOR_DARK_GRAY) : null;
+		final TableItem existing = rows.get(device);
+		if (existing != null) {
+			if (!dd0.isEmpty() && !dd0.equals(existing.getText(2)))
+				existing.setText(2, dd0);
+			existing.setText(3, previousScan);
+			existing.setForeground(color);
+			return;
+		}
+
+		list.setToolTipText("Select an address to read KNX device information");
+		final TableItem i = new TableItem(list, SWT.NONE);
+		i.setText(new String[] { "" + list.getItemCount(), device.toString(), dd0, previousScan });
+		i.setForeground(color);
+		rows.put(device, i);
+	}
+
+	private void onScanCompleted()
+	{
+		Main.asyncExec(() -> {
+			if (list.isDisposed())
+				return;
+			final String status = (canceled ? "canceled" : "completed")
+					+ (resumed > 0 ? " (" + resumed + " lines from a previous scan)" : "");
+			setHeaderInfo(connectInfo("Device scan " + status + " for", false)
+					+ " (select an address to read KNX device info)");
+			cancel.setEnabled(false);
+			rescan.setEnabled(true);
+			resume.setEnabled(scanRanges(scanRange).stream().anyMatch(this::completedBefore));
+			readAll.setEnabled(!rows.isEmpty());
+		});
 	}
 }
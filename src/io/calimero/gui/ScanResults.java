@@ -0,0 +1,132 @@
+/*
+    Calimero GUI - A graphical user interface for the Calimero 3 tools
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.gui;
+
+import static java.util.stream.Collectors.joining;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import io.calimero.IndividualAddress;
+
+/**
+ * Persists the progress of device scans, i.e., the devices found on a line and whether the scan of that line was
+ * completed. Scan results are keyed by interface and KNX line, so that a canceled or failed area scan can be resumed
+ * with the lines not yet scanned.
+ */
+final class ScanResults {
+	record Line(Instant lastScan, boolean completed, Map<IndividualAddress, String> devices) {}
+
+	private static final CacheFile file = new CacheFile(".calimero-gui.scans", "scan results");
+
+	private static final ScanResults instance = new ScanResults();
+
+	private final Map<String, Line> lines = new LinkedHashMap<>();
+
+	static ScanResults instance() { return instance; }
+
+	private ScanResults() {
+		load();
+	}
+
+	synchronized Optional<Line> line(final String interfaceKey, final String line) {
+		final Line l = lines.get(interfaceKey + "\t" + line);
+		if (l == null)
+			return Optional.empty();
+		final var devices = newDeviceMap();
+		devices.putAll(l.devices());
+		return Optional.of(new Line(l.lastScan(), l.completed(), devices));
+	}
+
+	synchronized void started(final String interfaceKey, final String line) {
+		lines.put(interfaceKey + "\t" + line, new Line(Instant.now(), false, newDeviceMap()));
+	}
+
+	synchronized void deviceFound(final String interfaceKey, final String line, final IndividualAddress device,
+		final String dd0) {
+		final Line l = lines.computeIfAbsent(interfaceKey + "\t" + line,
+				__ -> new Line(Instant.now(), false, newDeviceMap()));
+		if (!dd0.isEmpty() || !l.devices().containsKey(device))
+			l.devices().put(device, dd0);
+	}
+
+	synchronized void completed(final String interfaceKey, final String line) {
+		final String key = interfaceKey + "\t" + line;
+		final Line l = lines.get(key);
+		lines.put(key, new Line(Instant.now(), true, l != null ? l.devices() : newDeviceMap()));
+		save();
+	}
+
+	private static Map<IndividualAddress, String> newDeviceMap() {
+		return new TreeMap<>(Comparator.comparingInt(IndividualAddress::getRawAddress));
+	}
+
+	synchronized void save() {
+		final Instant expired = CacheFile.expiry("scan.retentionDays");
+		lines.values().removeIf(l -> l.lastScan().isBefore(expired));
+		final List<String[]> entries = new ArrayList<>();
+		for (final var entry : lines.entrySet()) {
+			final Line l = entry.getValue();
+			final String[] key = entry.getKey().split("\t", 2);
+			entries.add(new String[] { key[0], key[1], Long.toString(l.lastScan().toEpochMilli()),
+				Boolean.toString(l.completed()),
+				l.devices().entrySet().stream().map(d -> d.getKey() + "=" + d.getValue()).collect(joining(",")) });
+		}
+		file.save(entries);
+	}
+
+	// tab-separated fields: interface, line, last scan, completed, comma-separated device=dd0 list
+	private synchronized void load() {
+		file.load(fields -> {
+			final Map<IndividualAddress, String> devices = newDeviceMap();
+			for (final String device : fields[4].split(",")) {
+				if (device.isEmpty())
+					continue;
+				final int eq = device.indexOf('=');
+				devices.put(new IndividualAddress(device.substring(0, eq)), device.substring(eq + 1));
+			}
+			lines.put(fields[0] + "\t" + fields[1], new Line(Instant.ofEpochMilli(Long.parseLong(fields[2])),
+					Boolean.parseBoolean(fields[3]), devices));
+		});
+	}
+}
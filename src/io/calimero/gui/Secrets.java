@@ -0,0 +1,116 @@
+/*
+    Calimero GUI - A graphical user interface for the Calimero 3 tools
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.gui;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.calimero.KNXFormatException;
+
+/**
+ * Process-wide cache for decrypted keyring secrets and keys/passwords read from configuration files.
+ * Cached secrets are held in char buffers, which are zeroed as soon as the cache gets invalidated, i.e., if a
+ * different keyring is loaded or one of the watched files changes on disk.
+ */
+final class Secrets {
+	@FunctionalInterface
+	interface Lookup {
+		String get() throws IOException, KNXFormatException;
+	}
+
+	// marks a lookup which did not yield any secret
+	private static final char[] none = new char[0];
+
+	private static final Map<String, char[]> cache = new ConcurrentHashMap<>();
+	private static final AtomicLong generation = new AtomicLong();
+	private static volatile boolean enabled = true;
+	private static final Runnable onChange = Secrets::invalidate;
+
+	private Secrets() {}
+
+	/**
+	 * Returns the cached secret for {@code key}, or performs (and caches the result of) the supplied lookup.
+	 *
+	 * @param key cache key, unique for the requested secret
+	 * @param lookup performs the lookup (and possibly decryption) of the secret, returns {@code null} if there is
+	 *        no such secret
+	 * @return the secret, or {@code null} if the lookup did not yield any secret
+	 * @throws IOException on error reading the secret
+	 * @throws KNXFormatException on error parsing the secret
+	 */
+	static String lookup(final String key, final Lookup lookup) throws IOException, KNXFormatException {
+		if (!enabled)
+			return lookup.get();
+		final char[] cached = cache.get(key);
+		if (cached != null)
+			return cached == none ? null : new String(cached);
+
+		final long gen = generation.get();
+		final String secret = lookup.get();
+		// don't cache anything that was looked up while we got invalidated
+		if (generation.get() == gen)
+			cache.putIfAbsent(key, secret == null ? none : secret.toCharArray());
+		return secret;
+	}
+
+	/**
+	 * Invalidates the cache if {@code file} gets created, modified, or deleted.
+	 *
+	 * @param file file the cached secrets depend on
+	 */
+	static void watch(final Path file) {
+		if (!FileWatcher.watch(file, onChange)) {
+			enabled = false;
+			invalidate();
+		}
+	}
+
+	/**
+	 * Removes and zeroes all cached secrets.
+	 */
+	static void invalidate() {
+		generation.incrementAndGet();
+		for (final var i = cache.values().iterator(); i.hasNext();) {
+			Arrays.fill(i.next(), '\0');
+			i.remove();
+		}
+	}
+}